@@ -0,0 +1,138 @@
+package com.wex.purchasetransaction.benchmark;
+
+import com.wex.purchasetransaction.auth.repository.entity.User;
+import com.wex.purchasetransaction.auth.repository.entity.UserRole;
+import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
+import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.config.properties.ConversionProperties;
+import com.wex.purchasetransaction.config.properties.RecentTransactionCacheProperties;
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.money.Money;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.repository.TransactionRepository;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import com.wex.purchasetransaction.transaction.service.TransactionService;
+import com.wex.purchasetransaction.transaction.service.cache.RecentTransactionCache;
+import com.wex.purchasetransaction.transaction.treasury.TreasuryExchangeRateClient;
+import com.wex.purchasetransaction.transaction.treasury.cache.TreasuryRateCache;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the application objects the benchmarks exercise, wired with in-memory collaborators so no
+ * Spring context, database or network is involved.
+ */
+final class BenchmarkFixtures {
+
+    static final int USER_ID = 1;
+    static final LocalDate RATES_LOADED_UNTIL = LocalDate.of(2024, 12, 31);
+    static final List<String> CURRENCIES = List.of("Euro", "Yen", "Pound", "Real");
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * A {@code treasuryRates} cache holding quarterly 2024 publications for {@link #CURRENCIES}.
+     */
+    static TreasuryRateCache rateCache() {
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.setMaxMonthsLookback(6);
+
+        TreasuryRateCache cache = new TreasuryRateCache(properties, new SimpleMeterRegistry());
+        Map<String, String> rates = Map.of("Euro", "0.925", "Yen", "151.42", "Pound", "0.792", "Real", "5.001");
+
+        rates.forEach((currency, rate) -> cache.putPublications(currency, List.of(
+                publication(LocalDate.of(2023, 12, 31), currency, rate),
+                publication(LocalDate.of(2024, 3, 31), currency, rate),
+                publication(LocalDate.of(2024, 6, 30), currency, rate),
+                publication(LocalDate.of(2024, 9, 30), currency, rate),
+                publication(LocalDate.of(2024, 12, 31), currency, rate)
+        ), RATES_LOADED_UNTIL));
+
+        return cache;
+    }
+
+    /**
+     * A {@link TransactionService} backed by an in-memory repository holding {@code transactions} and the
+     * Treasury client answering from a warm {@link #rateCache()}.
+     */
+    static TransactionService transactionService(List<Transaction> transactions) {
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.setMaxMonthsLookback(6);
+
+        return new TransactionService(
+                inMemoryRepository(transactions),
+                new TreasuryExchangeRateClient(null, properties, rateCache()),
+                new FixedUserProvider(),
+                null, // users are only looked up when storing transactions
+                new ConversionProperties(),
+                null, // nor is the write batcher
+                recentTransactionCache()
+        );
+    }
+
+    static Transaction transaction(LocalDate date, String amountUsd) {
+        User user = new User("benchmark", "not-used", UserRole.USER);
+        user.setId(USER_ID);
+
+        return new Transaction("Benchmark purchase", date, Money.toCents(new BigDecimal(amountUsd)), user);
+    }
+
+    private static TreasuryRate publication(LocalDate recordDate, String currency, String rate) {
+        return new TreasuryRate(recordDate, "Benchmark-" + currency, currency, new BigDecimal(rate));
+    }
+
+    /**
+     * Disabled, so every conversion goes through the repository as it does for older transactions.
+     */
+    private static RecentTransactionCache recentTransactionCache() {
+        RecentTransactionCacheProperties properties = new RecentTransactionCacheProperties();
+        properties.setEnabled(false);
+
+        return new RecentTransactionCache(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Only {@code findViewByIdAndUserId} is implemented; it is the single repository call on the conversion path.
+     * Every stored transaction belongs to {@link #USER_ID}.
+     */
+    private static TransactionRepository inMemoryRepository(List<Transaction> transactions) {
+        Map<UUID, TransactionView> byId = new ConcurrentHashMap<>();
+        transactions.forEach(transaction -> byId.put(transaction.getId(), new TransactionView(
+                transaction.getId(),
+                transaction.getDescription(),
+                transaction.getTransactionDate(),
+                transaction.getAmountUsdCents()
+        )));
+
+        return (TransactionRepository) Proxy.newProxyInstance(
+                TransactionRepository.class.getClassLoader(),
+                new Class<?>[] {TransactionRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findViewByIdAndUserId")) {
+                        return Optional.ofNullable((int) args[1] == USER_ID ? byId.get((UUID) args[0]) : null);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private static final class FixedUserProvider extends AuthenticatedUserProvider {
+
+        private final AuthenticatedUser user = new AuthenticatedUser(USER_ID, "benchmark", "USER");
+
+        @Override
+        public AuthenticatedUser get() {
+            return user;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.wex.purchasetransaction.benchmark;
+
+import com.wex.purchasetransaction.transaction.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The conversion arithmetic used by {@code TransactionService}: USD amount times Treasury rate, rounded to
+ * cents with {@link RoundingMode#HALF_EVEN}. Parameterised over rates with few and many integer digits.
+ * The {@link Money} variants run the same conversion on {@code long} cents, with the rate either already scaled
+ * or scaled per call from the cached {@link BigDecimal}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionMathBenchmark {
+
+    @Param({"0.925", "151.42", "1379.5"})
+    private String rate;
+
+    private BigDecimal amountUsd;
+    private BigDecimal exchangeRate;
+    private long amountCents;
+    private long scaledRate;
+
+    @Setup
+    public void setUp() {
+        amountUsd = new BigDecimal("1234.56");
+        exchangeRate = new BigDecimal(rate);
+        amountCents = Money.toCents(amountUsd);
+        scaledRate = Money.toScaledRate(exchangeRate);
+    }
+
+    @Benchmark
+    public BigDecimal multiplyAndRound() {
+        return amountUsd.multiply(exchangeRate).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public BigDecimal multiply() {
+        return amountUsd.multiply(exchangeRate);
+    }
+
+    @Benchmark
+    public long fixedPoint() {
+        return Money.convert(amountCents, scaledRate);
+    }
+
+    @Benchmark
+    public long fixedPointFromBigDecimalRate() {
+        return Money.convert(amountCents, exchangeRate);
+    }
+}
@@ -0,0 +1,72 @@
+package com.wex.purchasetransaction.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+import com.wex.purchasetransaction.transaction.api.dto.CurrencyConversion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@link ConvertedTransactionResponse} to bytes, using an {@link ObjectMapper} built
+ * with the same defaults Spring MVC applies (Java time module, ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private ConvertedTransactionResponse single;
+    private ConvertedTransactionResponse multi;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(ConvertedTransactionResponse.class);
+
+        LocalDate date = LocalDate.of(2024, 2, 15);
+        BigDecimal amount = new BigDecimal("1234.56");
+
+        single = new ConvertedTransactionResponse(
+                "3f1c2d8e-6a0b-4c55-9d7e-2b8f0a1e4c39", "Office supplies", date, amount,
+                new BigDecimal("0.925"), new BigDecimal("1141.97"), "Euro"
+        );
+        multi = new ConvertedTransactionResponse(
+                "3f1c2d8e-6a0b-4c55-9d7e-2b8f0a1e4c39", "Office supplies", date, amount,
+                List.of(
+                        new CurrencyConversion("Euro", new BigDecimal("0.925"), new BigDecimal("1141.97")),
+                        new CurrencyConversion("Yen", new BigDecimal("151.42"), new BigDecimal("186937.08")),
+                        new CurrencyConversion("Pound", new BigDecimal("0.792"), new BigDecimal("977.77")),
+                        new CurrencyConversion("Real", new BigDecimal("5.001"), new BigDecimal("6174.03"))
+                )
+        );
+    }
+
+    @Benchmark
+    public byte[] singleCurrency() throws JsonProcessingException {
+        return writer.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] fourCurrencies() throws JsonProcessingException {
+        return writer.writeValueAsBytes(multi);
+    }
+}
@@ -0,0 +1,82 @@
+package com.wex.purchasetransaction.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wex.purchasetransaction.config.properties.RateLimitProperties;
+import com.wex.purchasetransaction.config.web.RateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RateLimitFilter} admitting a request: resolving the caller's bucket from the bearer token or remote
+ * address and consuming one token. The limit is set high enough that no request is ever rejected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"1", "1000"})
+    private int callers;
+
+    private RateLimitFilter filter;
+    private MockHttpServletRequest[] tokenRequests;
+    private MockHttpServletRequest[] anonymousRequests;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(true);
+        properties.setRequests(1_000_000_000);
+        properties.setDurationSeconds(3_600);
+
+        filter = new RateLimitFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        response = new MockHttpServletResponse();
+        tokenRequests = new MockHttpServletRequest[callers];
+        anonymousRequests = new MockHttpServletRequest[callers];
+
+        for (int i = 0; i < callers; i++) {
+            tokenRequests[i] = new MockHttpServletRequest("GET", "/api/v1/transactions/tx/converted");
+            tokenRequests[i].addHeader(HttpHeaders.AUTHORIZATION, "Bearer token-" + i);
+
+            anonymousRequests[i] = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+            anonymousRequests[i].setRemoteAddr("10.0.%d.%d".formatted(i / 256, i % 256));
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse bearerToken() throws ServletException, IOException {
+        filter.doFilter(tokenRequests[ThreadLocalRandom.current().nextInt(callers)], response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse remoteAddress() throws ServletException, IOException {
+        filter.doFilter(anonymousRequests[ThreadLocalRandom.current().nextInt(callers)], response, NO_OP_CHAIN);
+        return response;
+    }
+}
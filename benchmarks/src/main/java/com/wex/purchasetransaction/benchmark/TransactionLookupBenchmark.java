@@ -0,0 +1,123 @@
+package com.wex.purchasetransaction.benchmark;
+
+import com.wex.purchasetransaction.PurchaseTransactionApplication;
+import com.wex.purchasetransaction.auth.repository.UserRepository;
+import com.wex.purchasetransaction.auth.repository.entity.User;
+import com.wex.purchasetransaction.auth.repository.entity.UserRole;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.repository.TransactionBatchInserter;
+import com.wex.purchasetransaction.transaction.repository.TransactionRepository;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The single-transaction lookup behind {@code retrieveConvertedTransaction}, against a temporary SQLite database:
+ * loading a managed {@link Transaction} entity with the same id and user filter, in a read-only transaction, versus
+ * reading a {@link TransactionView} projection through {@code findViewByIdAndUserId}. Unlike the other suites this
+ * one boots the application context, since the difference lies in Hibernate and the driver.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionLookupBenchmark {
+
+    private static final int TRANSACTIONS = 1_024;
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private TransactionRepository repository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private int userId;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() throws IOException {
+        database = Files.createTempFile("wex-lookup-benchmark", ".db");
+        context = new SpringApplicationBuilder(PurchaseTransactionApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:sqlite:" + database,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--treasury.exchange-rate.sync.enabled=false",
+                "--treasury.exchange-rate.cache.snapshot.enabled=false"
+        );
+
+        repository = context.getBean(TransactionRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        userId = context.getBean(UserRepository.class)
+                .save(new User("benchmark", "not-used", UserRole.USER))
+                .getId();
+
+        List<Transaction> transactions = new ArrayList<>(TRANSACTIONS);
+        ids = new UUID[TRANSACTIONS];
+
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            LocalDate date = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+            Transaction transaction = new Transaction("Benchmark purchase", date, 1_000L + i, null);
+            transactions.add(transaction);
+            ids[i] = transaction.getId();
+        }
+
+        TransactionBatchInserter inserter = context.getBean(TransactionBatchInserter.class);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> inserter.insert(userId, transactions));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        for (String suffix : new String[] {"", "-wal", "-shm"}) {
+            Files.deleteIfExists(Path.of(database + suffix));
+        }
+    }
+
+    @Benchmark
+    public Transaction entity() {
+        UUID id = nextId();
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("select t from Transaction t where t.id = :id and t.user.id = :userId", Transaction.class)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .getSingleResult());
+    }
+
+    @Benchmark
+    public TransactionView projection() {
+        return repository.findViewByIdAndUserId(nextId(), userId).orElseThrow();
+    }
+
+    private UUID nextId() {
+        return ids[ThreadLocalRandom.current().nextInt(TRANSACTIONS)];
+    }
+}
@@ -0,0 +1,68 @@
+package com.wex.purchasetransaction.benchmark;
+
+import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TransactionService#retrieveConvertedTransaction} with every rate already cached, which is the
+ * steady-state request path: repository lookup, cache hit, conversion math and response assembly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    private static final int TRANSACTIONS = 1_024;
+
+    private TransactionService service;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        List<Transaction> transactions = new ArrayList<>(TRANSACTIONS);
+        ids = new String[TRANSACTIONS];
+
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            LocalDate date = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+            Transaction transaction = BenchmarkFixtures.transaction(date, "%d.%02d".formatted(10 + i, i % 100));
+            transactions.add(transaction);
+            ids[i] = transaction.getId().toString();
+        }
+
+        service = BenchmarkFixtures.transactionService(transactions);
+    }
+
+    @Benchmark
+    public ConvertedTransactionResponse convertToOneCurrency() {
+        return service.retrieveConvertedTransaction(nextId(), "Euro");
+    }
+
+    @Benchmark
+    public ConvertedTransactionResponse convertToFourCurrencies() {
+        return service.retrieveConvertedTransaction(nextId(), BenchmarkFixtures.CURRENCIES);
+    }
+
+    private String nextId() {
+        return ids[ThreadLocalRandom.current().nextInt(TRANSACTIONS)];
+    }
+}
@@ -0,0 +1,67 @@
+package com.wex.purchasetransaction.benchmark;
+
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.treasury.cache.TreasuryRateCache;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code treasuryRates} lookups on the request path: a hit inside a loaded range, a read-through
+ * {@link TreasuryRateCache#get} that is answered from memory, and a miss for a currency that was never loaded.
+ * The contended variant runs the hit path from four threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreasuryRateCacheBenchmark {
+
+    private static final LocalDate PURCHASE_DATE = LocalDate.of(2024, 2, 15);
+
+    private TreasuryRateCache cache;
+
+    @Setup
+    public void setUp() {
+        cache = BenchmarkFixtures.rateCache();
+    }
+
+    @Benchmark
+    public ConversionRate lookupHit() {
+        return cache.lookup("Euro", PURCHASE_DATE);
+    }
+
+    @Benchmark
+    public ConversionRate lookupMiss() {
+        return cache.lookup("Unknown", PURCHASE_DATE);
+    }
+
+    @Benchmark
+    public ConversionRate getHit() {
+        return cache.get("Euro", PURCHASE_DATE, TreasuryRateCacheBenchmark::unexpectedLoad);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ConversionRate lookupHitContended() {
+        return cache.lookup("Euro", PURCHASE_DATE);
+    }
+
+    private static TreasuryRate unexpectedLoad() {
+        throw new IllegalStateException("Benchmark rate should be cached");
+    }
+}
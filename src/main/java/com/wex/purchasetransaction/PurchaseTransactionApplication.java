@@ -1,11 +1,17 @@
 package com.wex.purchasetransaction;
 
+import com.wex.purchasetransaction.transaction.service.importer.TransactionImportRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class PurchaseTransactionApplication {
     public static void main(String[] args) {
-        SpringApplication.run(PurchaseTransactionApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(PurchaseTransactionApplication.class, args);
+
+        if (context.getBeanNamesForType(TransactionImportRunner.class).length > 0) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
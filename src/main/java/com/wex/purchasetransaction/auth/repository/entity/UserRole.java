@@ -1,7 +1,8 @@
 package com.wex.purchasetransaction.auth.repository.entity;
 
 public enum UserRole {
-    USER("USER");
+    USER("USER"),
+    ADMIN("ADMIN");
 
     private final String roleName;
 
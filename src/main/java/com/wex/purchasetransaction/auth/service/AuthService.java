@@ -10,7 +10,8 @@ import com.wex.purchasetransaction.auth.repository.entity.UserRole;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
 
@@ -20,25 +21,32 @@ public class AuthService {
     private final UserRepository userRepository;
     private final ApiTokenRepository apiTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
 
-    public AuthService(UserRepository userRepository, ApiTokenRepository apiTokenRepository, PasswordEncoder passwordEncoder) {
+    public AuthService(UserRepository userRepository, ApiTokenRepository apiTokenRepository, PasswordEncoder passwordEncoder, PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.apiTokenRepository = apiTokenRepository;
         this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
+    /**
+     * Checks the password outside any write transaction, so the slow hash comparison never holds the single
+     * SQLite writer connection; only the token rotation does.
+     */
     public LoginResponse login(String username, String rawPassword) {
 
         User user = userRepository.findByUsername(username)
                 .filter(u -> passwordEncoder.matches(rawPassword, u.getPassword()))
                 .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
 
-        // Invalidate existing tokens
-        apiTokenRepository.deleteByUserId(user.getId());
-
         String token = UUID.randomUUID().toString();
-        apiTokenRepository.save(new ApiToken(token, user));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Invalidate existing tokens
+            apiTokenRepository.deleteByUserId(user.getId());
+            apiTokenRepository.save(new ApiToken(token, user));
+        });
 
         return new LoginResponse(token);
     }
@@ -1,9 +0,0 @@
-package com.wex.purchasetransaction.config.cache;
-
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-@EnableCaching
-public class CacheConfig {
-}
@@ -0,0 +1,87 @@
+package com.wex.purchasetransaction.config.datasource;
+
+import com.wex.purchasetransaction.config.properties.SqliteProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits SQLite access into a single-connection writer pool and a read-only reader pool.
+ * <p>
+ * SQLite serialises writers on a database-wide lock, so more than one writer connection only adds
+ * {@code SQLITE_BUSY} retries. In WAL mode readers never block the writer or each other, so read-only
+ * transactions ({@code @Transactional(readOnly = true)}, and Spring Data's default for the built-in repository
+ * reads) are sent to a separate pool. Declared query methods are not covered by that default and are marked
+ * read-only one by one. The routing is done by {@link LazyConnectionDataSourceProxy}, which picks the pool
+ * on the first statement, once the transaction's read-only flag is known.
+ */
+@Configuration
+public class SqliteDataSourceConfig {
+
+    public static final String WRITER_DATA_SOURCE = "sqliteWriterDataSource";
+    public static final String READER_DATA_SOURCE = "sqliteReaderDataSource";
+
+    @Bean(name = WRITER_DATA_SOURCE, destroyMethod = "close")
+    public HikariDataSource sqliteWriterDataSource(DataSourceProperties dataSourceProperties, SqliteProperties sqlite) {
+        HikariConfig config = baseConfig("sqlite-writer", dataSourceProperties, sqliteConfig(sqlite, false));
+        config.setMaximumPoolSize(1);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Depends on the writer so the database file exists, and is in WAL mode, before a read-only connection opens.
+     */
+    @Bean(name = READER_DATA_SOURCE, destroyMethod = "close")
+    @DependsOn(WRITER_DATA_SOURCE)
+    public HikariDataSource sqliteReaderDataSource(DataSourceProperties dataSourceProperties, SqliteProperties sqlite) {
+        HikariConfig config = baseConfig("sqlite-reader", dataSourceProperties, sqliteConfig(sqlite, true));
+        config.setMaximumPoolSize(sqlite.getReaderPoolSize());
+        config.setReadOnly(true);
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier(WRITER_DATA_SOURCE) DataSource writer,
+            @Qualifier(READER_DATA_SOURCE) DataSource reader) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(writer);
+        routing.setReadOnlyDataSource(reader);
+        return routing;
+    }
+
+    private static HikariConfig baseConfig(String poolName, DataSourceProperties dataSourceProperties, SQLiteConfig sqliteConfig) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(dataSourceProperties.determineUrl());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        config.setDataSourceProperties(sqliteConfig.toProperties());
+        return config;
+    }
+
+    /**
+     * Pragmas applied by the driver to every new connection. {@code journal_mode} is persistent in the database
+     * file and can only be changed by the writer. In WAL mode {@code synchronous=NORMAL} survives an application
+     * crash and only risks the last commits on power loss.
+     */
+    static SQLiteConfig sqliteConfig(SqliteProperties sqlite, boolean readOnly) {
+        SQLiteConfig config = new SQLiteConfig();
+        if (!readOnly) {
+            config.setPragma(SQLiteConfig.Pragma.JOURNAL_MODE, sqlite.getJournalMode());
+        }
+        config.setPragma(SQLiteConfig.Pragma.SYNCHRONOUS, sqlite.getSynchronous());
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(sqlite.getMmapSize().toBytes()));
+        config.setBusyTimeout((int) sqlite.getBusyTimeout().toMillis());
+        config.setReadOnly(readOnly);
+        return config;
+    }
+}
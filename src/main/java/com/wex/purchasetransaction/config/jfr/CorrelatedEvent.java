@@ -0,0 +1,37 @@
+package com.wex.purchasetransaction.config.jfr;
+
+import com.wex.purchasetransaction.config.web.CorrelationIdFilter;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.slf4j.MDC;
+
+/**
+ * Base for the application's Flight Recorder events. Carries the request's correlation ID so a slow event can be
+ * matched to its log lines and {@code X-Correlation-Id} response header.
+ * <p>
+ * Subclasses set their fields only once {@link #shouldCommit()} is true, so an event that is disabled or under
+ * its threshold costs no more than the {@code begin}/{@code end} timestamps.
+ */
+@Category("WEX")
+@StackTrace(false)
+abstract class CorrelatedEvent extends Event {
+
+    @Label("Correlation ID")
+    String correlationId;
+
+    /**
+     * Ends the event and reports whether it will be recorded, capturing the correlation ID if so.
+     */
+    boolean endAndCheck() {
+        end();
+
+        if (!shouldCommit()) {
+            return false;
+        }
+
+        correlationId = MDC.get(CorrelationIdFilter.CORRELATION_ID_KEY);
+        return true;
+    }
+}
@@ -0,0 +1,188 @@
+package com.wex.purchasetransaction.config.jfr;
+
+import com.wex.purchasetransaction.config.properties.JfrProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts and dumps bounded Flight Recorder recordings at {@code /actuator/jfr}.
+ * <p>
+ * {@code POST} starts a recording with the JDK {@code default} settings plus the application's events for
+ * {@code jfr.recording.default-duration}; {@code POST /actuator/jfr/{duration}} picks the duration instead. Both
+ * are capped by {@code jfr.recording.max-duration} and {@code max-size}. Only one recording runs at a time; starting a new
+ * one discards the previous one. {@code GET /actuator/jfr/{id}} streams the recording as a {@code .jfr} file,
+ * whether it is still running or has already stopped.
+ * <p>
+ * Events that capture environment variables, system properties and JVM arguments are switched off, since those
+ * routinely carry credentials. The endpoint is not exposed by default; when it is, it requires the
+ * {@code ADMIN} role.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+
+    static final String RECORDING_NAME = "purchasetransaction-on-demand";
+
+    private static final List<Class<? extends CorrelatedEvent>> EVENTS = List.of(
+            TreasuryFetchEvent.class,
+            RepositoryCallEvent.class,
+            TokenLookupEvent.class,
+            RateLimitDecisionEvent.class
+    );
+
+    static final List<String> REDACTED_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation"
+    );
+
+    private final JfrProperties properties;
+    private Recording recording;
+
+    public JfrRecordingEndpoint(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        return describe(recording);
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start() {
+        return startFor(properties.getDefaultDuration());
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> startFor(@Selector Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(describe(recording), HttpStatus.CONFLICT.value());
+        }
+
+        Duration bounded = bound(duration);
+        close();
+
+        Recording started = new Recording(defaultSettings());
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setDuration(bounded);
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        EVENTS.forEach(event -> started.enable(event).withThreshold(properties.getThreshold()));
+        started.start();
+        recording = started;
+
+        log.info("Started JFR recording [id={}, duration={}]", started.getId(), bounded);
+        return new WebEndpointResponse<>(describe(started), WebEndpointResponse.STATUS_OK);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector long id) {
+        if (recording == null || recording.getId() != id || recording.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+
+        try {
+            Path file = Files.createTempFile("recording-" + id + "-", ".jfr");
+            recording.dump(file);
+            log.info("Dumped JFR recording [id={}, bytes={}]", id, Files.size(file));
+            return new WebEndpointResponse<>(new TemporaryFileResource(file), WebEndpointResponse.STATUS_OK);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not dump JFR recording " + id, ex);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Duration bound(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            return properties.getDefaultDuration();
+        }
+        return duration.compareTo(properties.getMaxDuration()) > 0 ? properties.getMaxDuration() : duration;
+    }
+
+    private static Map<String, String> defaultSettings() {
+        try {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            REDACTED_EVENTS.forEach(event -> settings.put(event + "#enabled", "false"));
+            return settings;
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("JDK default JFR configuration is unavailable", ex);
+        }
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> status = new LinkedHashMap<>();
+
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+
+        status.put("id", recording.getId());
+        status.put("name", recording.getName());
+        status.put("state", recording.getState());
+        status.put("startTime", recording.getStartTime());
+        status.put("duration", String.valueOf(recording.getDuration()));
+        status.put("maxSize", recording.getMaxSize());
+        status.put("size", recording.getSize());
+        return status;
+    }
+
+    /**
+     * A dumped recording that deletes its file once the response body has been written.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.wex.purchasetransaction.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.wex.RateLimitDecision")
+@Label("Rate Limit Decision")
+@Category({"WEX", "Security"})
+@Description("Bucket resolution and token consumption for one request")
+public class RateLimitDecisionEvent extends CorrelatedEvent {
+
+    @Label("Key Type")
+    @Description("token or address")
+    String keyType;
+
+    @Label("Allowed")
+    boolean allowed;
+
+    @Label("Remaining Tokens")
+    long remainingTokens;
+
+    public void complete(String keyType, boolean allowed, long remainingTokens) {
+        if (endAndCheck()) {
+            this.keyType = keyType;
+            this.allowed = allowed;
+            this.remainingTokens = remainingTokens;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.wex.purchasetransaction.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.wex.RepositoryCall")
+@Label("Repository Call")
+@Category({"WEX", "Persistence"})
+@Description("A Spring Data repository call made while serving a transaction request")
+public class RepositoryCallEvent extends CorrelatedEvent {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Found")
+    boolean found;
+
+    public void complete(String repository, String method, boolean found) {
+        if (endAndCheck()) {
+            this.repository = repository;
+            this.method = method;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.wex.purchasetransaction.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.wex.TokenLookup")
+@Label("Token Lookup")
+@Category({"WEX", "Security"})
+@Description("Bearer-token lookup made by the token authentication filter; the token itself is not recorded")
+public class TokenLookupEvent extends CorrelatedEvent {
+
+    @Label("Found")
+    boolean found;
+
+    public void complete(boolean found) {
+        if (endAndCheck()) {
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.wex.purchasetransaction.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.wex.TreasuryFetch")
+@Label("Treasury Fetch")
+@Category({"WEX", "Treasury"})
+@Description("One HTTP attempt against the Treasury rates_of_exchange API")
+public class TreasuryFetchEvent extends CorrelatedEvent {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Filter")
+    String filter;
+
+    @Label("Page")
+    int page;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void complete(String operation, String filter, int page, int attempt, String outcome) {
+        if (endAndCheck()) {
+            this.operation = operation;
+            this.filter = filter;
+            this.page = page;
+            this.attempt = attempt;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.wex.purchasetransaction.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "transaction.conversion")
+public class ConversionProperties {
+
+    private int maxConcurrentRateLookups = 4;
+
+    public int getMaxConcurrentRateLookups() {
+        return maxConcurrentRateLookups;
+    }
+
+    public void setMaxConcurrentRateLookups(int maxConcurrentRateLookups) {
+        this.maxConcurrentRateLookups = maxConcurrentRateLookups;
+    }
+}
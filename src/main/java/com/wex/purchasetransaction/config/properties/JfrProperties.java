@@ -0,0 +1,52 @@
+package com.wex.purchasetransaction.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Bounds for the on-demand Flight Recorder recordings started through {@code /actuator/jfr}.
+ */
+@Component
+@ConfigurationProperties(prefix = "jfr.recording")
+public class JfrProperties {
+
+    private Duration defaultDuration = Duration.ofSeconds(60);
+    private Duration maxDuration = Duration.ofMinutes(10);
+    private DataSize maxSize = DataSize.ofMegabytes(50);
+    private Duration threshold = Duration.ZERO;
+
+    public Duration getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public void setDefaultDuration(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+        this.threshold = threshold;
+    }
+}
@@ -0,0 +1,61 @@
+package com.wex.purchasetransaction.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Connection pragmas and pool sizes for the SQLite database behind {@code spring.datasource.url}.
+ */
+@Component
+@ConfigurationProperties(prefix = "sqlite")
+public class SqliteProperties {
+
+    private String journalMode = "WAL";
+    private String synchronous = "NORMAL";
+    private DataSize mmapSize = DataSize.ofMegabytes(256);
+    private Duration busyTimeout = Duration.ofSeconds(5);
+    private int readerPoolSize = 4;
+
+    public String getJournalMode() {
+        return journalMode;
+    }
+
+    public void setJournalMode(String journalMode) {
+        this.journalMode = journalMode;
+    }
+
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    public void setSynchronous(String synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    public DataSize getMmapSize() {
+        return mmapSize;
+    }
+
+    public void setMmapSize(DataSize mmapSize) {
+        this.mmapSize = mmapSize;
+    }
+
+    public Duration getBusyTimeout() {
+        return busyTimeout;
+    }
+
+    public void setBusyTimeout(Duration busyTimeout) {
+        this.busyTimeout = busyTimeout;
+    }
+
+    public int getReaderPoolSize() {
+        return readerPoolSize;
+    }
+
+    public void setReaderPoolSize(int readerPoolSize) {
+        this.readerPoolSize = readerPoolSize;
+    }
+}
@@ -0,0 +1,23 @@
+package com.wex.purchasetransaction.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for {@code POST /api/v1/transactions/batch}. Every valid item of a batch is inserted in one database
+ * transaction, sent to SQLite as JDBC batches of at most {@code chunk-size} rows.
+ */
+@Component
+@ConfigurationProperties(prefix = "transaction.batch")
+public class TransactionBatchProperties {
+
+    private int chunkSize = 500;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
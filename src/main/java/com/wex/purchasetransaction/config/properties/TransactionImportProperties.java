@@ -0,0 +1,91 @@
+package com.wex.purchasetransaction.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for bulk transaction file imports. Valid rows are inserted and checkpointed every {@code chunk-size}
+ * rows, progress is logged every {@code progress-interval} rows, and at most {@code max-reported-errors} rejected
+ * rows are described in the result. A record longer than {@code max-record-length} characters is rejected as a
+ * malformed row without being buffered in full.
+ * <p>
+ * When {@code file} is set the application imports it on startup for {@code user} and exits, instead of serving
+ * requests. {@code id} names the checkpoint to resume; it defaults to one derived from the file.
+ */
+@Component
+@ConfigurationProperties(prefix = "transaction.import")
+public class TransactionImportProperties {
+
+    private int chunkSize = 1000;
+    private long progressInterval = 100_000;
+    private int maxReportedErrors = 100;
+    private int maxRecordLength = 8192;
+    private String file;
+    private String format;
+    private String user;
+    private String id;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getProgressInterval() {
+        return progressInterval;
+    }
+
+    public void setProgressInterval(long progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public int getMaxRecordLength() {
+        return maxRecordLength;
+    }
+
+    public void setMaxRecordLength(int maxRecordLength) {
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,62 @@
+package com.wex.purchasetransaction.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Group-commit settings for transaction inserts. A batch is committed once it holds {@code max-batch-size}
+ * transactions or {@code linger} has passed since its first one arrived, whichever comes first. A request waits
+ * at most {@code commit-timeout} for its insert to be queued and committed.
+ */
+@Component
+@ConfigurationProperties(prefix = "transaction.write")
+public class TransactionWriteProperties {
+
+    private boolean batchingEnabled = true;
+    private int maxBatchSize = 64;
+    private Duration linger = Duration.ofMillis(2);
+    private int queueCapacity = 4096;
+    private Duration commitTimeout = Duration.ofSeconds(10);
+
+    public boolean isBatchingEnabled() {
+        return batchingEnabled;
+    }
+
+    public void setBatchingEnabled(boolean batchingEnabled) {
+        this.batchingEnabled = batchingEnabled;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getLinger() {
+        return linger;
+    }
+
+    public void setLinger(Duration linger) {
+        this.linger = linger;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getCommitTimeout() {
+        return commitTimeout;
+    }
+
+    public void setCommitTimeout(Duration commitTimeout) {
+        this.commitTimeout = commitTimeout;
+    }
+}
@@ -3,12 +3,22 @@ package com.wex.purchasetransaction.config.properties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Period;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 @Component
 @ConfigurationProperties(prefix = "treasury.exchange-rate")
 public class TreasuryProperties {
 
     private String baseUrl;
     private int maxMonthsLookback;
+    private Source source = Source.TREASURY;
+    private Sync sync = new Sync();
+    private Cache cache = new Cache();
+    private Http http = new Http();
 
     public String getBaseUrl() {
         return baseUrl;
@@ -25,4 +35,338 @@ public class TreasuryProperties {
     public void setMaxMonthsLookback(int maxMonthsLookback) {
         this.maxMonthsLookback = maxMonthsLookback;
     }
-}
\ No newline at end of file
+
+    public Source getSource() {
+        return source;
+    }
+
+    public void setSource(Source source) {
+        this.source = source;
+    }
+
+    public Sync getSync() {
+        return sync;
+    }
+
+    public void setSync(Sync sync) {
+        this.sync = sync;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public void setHttp(Http http) {
+        this.http = http;
+    }
+
+    /**
+     * Where exchange rates are resolved from on the request path.
+     */
+    public enum Source {
+        /** Live call to the Treasury API. */
+        TREASURY,
+        /** Local {@code exchange_rates} table kept up to date by the sync job. */
+        LOCAL
+    }
+
+    /**
+     * Outbound transport used for every Treasury call.
+     */
+    public static class Http {
+
+        private Client client = Client.APACHE;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private int maxConnections = 20;
+        private boolean compression = true;
+
+        public Client getClient() {
+            return client;
+        }
+
+        public void setClient(Client client) {
+            this.client = client;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public Duration getConnectionRequestTimeout() {
+            return connectionRequestTimeout;
+        }
+
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public boolean isCompression() {
+            return compression;
+        }
+
+        public void setCompression(boolean compression) {
+            this.compression = compression;
+        }
+
+        public enum Client {
+            /** Pooled Apache HttpClient 5 over HTTP/1.1, with connection pool metrics. */
+            APACHE,
+            /** JDK HttpClient, negotiating HTTP/2 via ALPN and falling back to HTTP/1.1. */
+            JDK
+        }
+    }
+
+    public static class Sync {
+
+        private boolean enabled = false;
+        private int pageSize = 1000;
+        private Duration initialDelay = Duration.ofSeconds(5);
+        private Duration interval = Duration.ofHours(6);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public Duration getInitialDelay() {
+            return initialDelay;
+        }
+
+        public void setInitialDelay(Duration initialDelay) {
+            this.initialDelay = initialDelay;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+    }
+
+    public static class Cache {
+
+        private long maximumSize = 1000;
+        private Duration expireAfterWrite = Duration.ofMinutes(60);
+        private WarmUp warmUp = new WarmUp();
+        private Negative negative = new Negative();
+        private Refresh refresh = new Refresh();
+        private Snapshot snapshot = new Snapshot();
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        public WarmUp getWarmUp() {
+            return warmUp;
+        }
+
+        public void setWarmUp(WarmUp warmUp) {
+            this.warmUp = warmUp;
+        }
+
+        public Negative getNegative() {
+            return negative;
+        }
+
+        public void setNegative(Negative negative) {
+            this.negative = negative;
+        }
+
+        public Refresh getRefresh() {
+            return refresh;
+        }
+
+        public void setRefresh(Refresh refresh) {
+            this.refresh = refresh;
+        }
+
+        public Snapshot getSnapshot() {
+            return snapshot;
+        }
+
+        public void setSnapshot(Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * Binary snapshot of the rate cache, restored at startup so a restarted node does not start cold.
+     */
+    public static class Snapshot {
+
+        private boolean enabled = false;
+        private Path path = Path.of("data", "treasury-rates.snapshot");
+        private Duration interval = Duration.ofMinutes(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public void setPath(Path path) {
+            this.path = path;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+    }
+
+    /**
+     * Stale-while-revalidate mode. When enabled, a currency read more than {@code afterWrite} after it was
+     * last written is reloaded in the background while the current value keeps being served; entries only
+     * expire once they have gone {@code maxStale} without a successful write.
+     */
+    public static class Refresh {
+
+        private boolean enabled = false;
+        private Duration afterWrite = Duration.ofMinutes(30);
+        private Duration maxStale = Duration.ofHours(24);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getAfterWrite() {
+            return afterWrite;
+        }
+
+        public void setAfterWrite(Duration afterWrite) {
+            this.afterWrite = afterWrite;
+        }
+
+        public Duration getMaxStale() {
+            return maxStale;
+        }
+
+        public void setMaxStale(Duration maxStale) {
+            this.maxStale = maxStale;
+        }
+    }
+
+    /**
+     * Bounds for remembering currency/date combinations Treasury has no rate for.
+     */
+    public static class Negative {
+
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+
+    public static class WarmUp {
+
+        private Set<String> currencies = new LinkedHashSet<>();
+        private Period period = Period.ofYears(1);
+
+        public Set<String> getCurrencies() {
+            return currencies;
+        }
+
+        public void setCurrencies(Set<String> currencies) {
+            this.currencies = currencies;
+        }
+
+        public Period getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Period period) {
+            this.period = period;
+        }
+    }
+}
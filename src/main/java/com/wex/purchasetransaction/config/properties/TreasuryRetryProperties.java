@@ -3,12 +3,20 @@ package com.wex.purchasetransaction.config.properties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "treasury.retry")
 public class TreasuryRetryProperties {
 
     private int maxAttempts = 3;
     private long delayMs = 500;
+    private long maxDelayMs = 5_000;
+    private double multiplier = 2.0;
+    private Duration maxRetryAfter = Duration.ofSeconds(30);
+    private Budget budget = new Budget();
+    private Bulkhead bulkhead = new Bulkhead();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
 
     public int getMaxAttempts() {
         return maxAttempts;
@@ -25,4 +33,175 @@ public class TreasuryRetryProperties {
     public void setDelayMs(long delayMs) {
         this.delayMs = delayMs;
     }
+
+    public long getMaxDelayMs() {
+        return maxDelayMs;
+    }
+
+    public void setMaxDelayMs(long maxDelayMs) {
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public void setMultiplier(double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public void setMaxRetryAfter(Duration maxRetryAfter) {
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    public Budget getBudget() {
+        return budget;
+    }
+
+    public void setBudget(Budget budget) {
+        this.budget = budget;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Process-wide cap on retries: over the last {@code window}, retries may not exceed {@code ratio} of first
+     * attempts plus {@code minRetries}, so retries cannot multiply load during an outage.
+     */
+    public static class Budget {
+
+        private double ratio = 0.1;
+        private int minRetries = 3;
+        private Duration window = Duration.ofSeconds(10);
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+
+        public int getMinRetries() {
+            return minRetries;
+        }
+
+        public void setMinRetries(int minRetries) {
+            this.minRetries = minRetries;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+    }
+
+    /**
+     * Caps concurrent Treasury calls; callers wait at most {@code maxWait} for a slot before being rejected.
+     */
+    public static class Bulkhead {
+
+        private int maxConcurrentCalls = 10;
+        private Duration maxWait = Duration.ofMillis(100);
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+
+    /**
+     * Opens after {@code failureRateThreshold} percent of the last {@code slidingWindowSize} calls failed (once
+     * at least {@code minimumCalls} were recorded), rejects calls for {@code openDuration}, then lets
+     * {@code halfOpenCalls} trial calls through to decide whether to close again.
+     */
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+        private int failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+    }
 }
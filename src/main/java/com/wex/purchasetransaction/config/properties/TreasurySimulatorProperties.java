@@ -0,0 +1,78 @@
+package com.wex.purchasetransaction.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Fault injection settings for the offline Treasury simulator served under the {@code treasury-sim} profile.
+ */
+@Component
+@ConfigurationProperties(prefix = "simulator.treasury")
+public class TreasurySimulatorProperties {
+
+    private String dataset = "classpath:simulator/rates_of_exchange.csv";
+    private Duration latency = Duration.ofMillis(50);
+    private Duration latencyJitter = Duration.ofMillis(25);
+    private double errorRate = 0.0;
+    private int errorStatus = 503;
+    private double timeoutRate = 0.0;
+    private Duration timeoutDelay = Duration.ofSeconds(15);
+
+    public String getDataset() {
+        return dataset;
+    }
+
+    public void setDataset(String dataset) {
+        this.dataset = dataset;
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public Duration getLatencyJitter() {
+        return latencyJitter;
+    }
+
+    public void setLatencyJitter(Duration latencyJitter) {
+        this.latencyJitter = latencyJitter;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public void setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+    }
+
+    public double getTimeoutRate() {
+        return timeoutRate;
+    }
+
+    public void setTimeoutRate(double timeoutRate) {
+        this.timeoutRate = timeoutRate;
+    }
+
+    public Duration getTimeoutDelay() {
+        return timeoutDelay;
+    }
+
+    public void setTimeoutDelay(Duration timeoutDelay) {
+        this.timeoutDelay = timeoutDelay;
+    }
+}
@@ -0,0 +1,12 @@
+package com.wex.purchasetransaction.config.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "scheduling", name = "enabled", matchIfMissing = true)
+public class SchedulingConfig {
+    // Marker configuration for Spring scheduling; switched off for command-line imports
+}
@@ -1,11 +1,15 @@
 package com.wex.purchasetransaction.config.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wex.purchasetransaction.config.jfr.RateLimitDecisionEvent;
 import com.wex.purchasetransaction.config.properties.RateLimitProperties;
 import com.wex.purchasetransaction.exception.ApiError;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,13 +37,28 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private final RateLimitProperties properties;
     private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
+    private final Counter tokenRejections;
+    private final Counter addressRejections;
 
     public RateLimitFilter(
             RateLimitProperties properties,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
     ) {
         this.properties = properties;
         this.objectMapper = objectMapper;
+
+        this.tokenRejections = Counter.builder("rate.limit.rejections")
+                .description("Requests rejected with 429 by the rate limiter")
+                .tag("key", "token")
+                .register(meterRegistry);
+        this.addressRejections = Counter.builder("rate.limit.rejections")
+                .description("Requests rejected with 429 by the rate limiter")
+                .tag("key", "address")
+                .register(meterRegistry);
+        Gauge.builder("rate.limit.buckets", buckets, Map::size)
+                .description("Live rate limit buckets, one per token or remote address")
+                .register(meterRegistry);
     }
 
     @Override
@@ -54,10 +73,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
+        RateLimitDecisionEvent event = new RateLimitDecisionEvent();
+        event.begin();
+
         String key = resolveKey(request);
         Bucket bucket = buckets.computeIfAbsent(key, this::newBucket);
 
         ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        event.complete(isToken(request) ? "token" : "address", probe.isConsumed(), probe.getRemainingTokens());
 
         if (probe.isConsumed()) {
             filterChain.doFilter(request, response);
@@ -70,6 +93,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
 
         log.warn("Rate limit exceeded [key={}, retryAfter={}s]", key, retryAfterSeconds);
+        (isToken(request) ? tokenRejections : addressRejections).increment();
 
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
@@ -99,10 +123,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
     }
 
     private String resolveKey(HttpServletRequest request) {
-        String auth = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (auth != null && auth.startsWith("Bearer ")) {
-            return auth.substring(7); // rate limit per token
+        if (isToken(request)) {
+            return request.getHeader(HttpHeaders.AUTHORIZATION).substring(7); // rate limit per token
         }
         return request.getRemoteAddr(); // fallback per IP
     }
+
+    private static boolean isToken(HttpServletRequest request) {
+        String auth = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return auth != null && auth.startsWith("Bearer ");
+    }
 }
@@ -1,10 +0,0 @@
-package com.wex.purchasetransaction.config.web;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
-
-@Configuration
-@EnableRetry
-public class RetryConfig {
-    // Marker configuration for Spring Retry
-}
@@ -33,6 +33,8 @@ public class SecurityConfig {
                     .requestMatchers("/api/v1/transactions/**").hasRole("USER")
                     .requestMatchers("/api/v1/auth/**").permitAll()
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/actuator/health").permitAll()
+                    .requestMatchers("/simulator/**").permitAll()
+                    .requestMatchers("/actuator/jfr/**", "/actuator/treasury/**").hasRole("ADMIN")
                     .anyRequest().authenticated()
             )
             .addFilterBefore(tokenFilter, UsernamePasswordAuthenticationFilter.class)
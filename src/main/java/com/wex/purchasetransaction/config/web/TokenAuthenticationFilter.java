@@ -4,6 +4,9 @@ import com.wex.purchasetransaction.auth.repository.entity.ApiToken;
 import com.wex.purchasetransaction.auth.repository.ApiTokenRepository;
 import com.wex.purchasetransaction.auth.repository.entity.User;
 import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.config.jfr.TokenLookupEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,18 +23,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final ApiTokenRepository apiTokenRepository;
     private final long tokenTtlMinutes;
+    private final Timer foundLookups;
+    private final Timer missingLookups;
 
     public TokenAuthenticationFilter(
             ApiTokenRepository apiTokenRepository,
-            @Value("${security.auth.token-ttl-minutes:60}") long tokenTtlMinutes) {
+            @Value("${security.auth.token-ttl-minutes:60}") long tokenTtlMinutes,
+            MeterRegistry meterRegistry) {
         this.apiTokenRepository = apiTokenRepository;
         this.tokenTtlMinutes = tokenTtlMinutes;
+        this.foundLookups = lookupTimer("found", meterRegistry);
+        this.missingLookups = lookupTimer("missing", meterRegistry);
     }
 
     @Override
@@ -46,7 +56,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String tokenValue = authHeader.substring(7);
 
-            apiTokenRepository.findById(tokenValue).ifPresent(apiToken -> {
+            findToken(tokenValue).ifPresent(apiToken -> {
 
                 if (isExpired(apiToken)) {
                     apiTokenRepository.delete(apiToken);
@@ -74,6 +84,24 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Optional<ApiToken> findToken(String tokenValue) {
+        TokenLookupEvent event = new TokenLookupEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Optional<ApiToken> token = apiTokenRepository.findById(tokenValue);
+
+        event.complete(token.isPresent());
+        (token.isPresent() ? foundLookups : missingLookups).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    private static Timer lookupTimer(String result, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.token.lookup")
+                .description("Database lookup of the bearer token on each authenticated request")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
     private static UsernamePasswordAuthenticationToken getAuthentication(ApiToken apiToken) {
         User user = apiToken.getUser();
 
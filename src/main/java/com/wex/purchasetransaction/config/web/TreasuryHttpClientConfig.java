@@ -0,0 +1,144 @@
+package com.wex.purchasetransaction.config.web;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.client.RestClientBuilderConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
+/**
+ * Outbound transport for the Treasury API, configured under {@code treasury.exchange-rate.http}.
+ * <p>
+ * The Apache client keeps a bounded pool of keep-alive connections, bounds connect, pool lease and socket read
+ * times, and transparently decompresses gzip responses. Its pool is published as
+ * {@code httpcomponents.httpclient.pool.*} metrics. The JDK client is available for HTTP/2.
+ */
+@Configuration
+public class TreasuryHttpClientConfig {
+
+    public static final String TREASURY_REST_CLIENT_BUILDER = "treasuryRestClientBuilder";
+
+    @Bean
+    public ClientHttpRequestFactory treasuryClientHttpRequestFactory(
+            TreasuryProperties properties,
+            ObjectProvider<CloseableHttpClient> treasuryHttpClient) {
+
+        TreasuryProperties.Http http = properties.getHttp();
+
+        return switch (http.getClient()) {
+            case APACHE -> new HttpComponentsClientHttpRequestFactory(treasuryHttpClient.getObject());
+            case JDK -> jdkRequestFactory(http);
+        };
+    }
+
+    /**
+     * Connection pool of the Apache client. A bean of its own so the context closes it on shutdown.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(
+            prefix = "treasury.exchange-rate.http", name = "client", havingValue = "apache", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager treasuryConnectionManager(
+            TreasuryProperties properties,
+            MeterRegistry meterRegistry) {
+
+        TreasuryProperties.Http http = properties.getHttp();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "treasury")
+                .bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    /**
+     * Apache client over {@link #treasuryConnectionManager}, which it shares rather than owns, so the pool is
+     * closed once, by its own bean. Closing the client stops its idle connection evictor thread.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(
+            prefix = "treasury.exchange-rate.http", name = "client", havingValue = "apache", matchIfMissing = true)
+    public CloseableHttpClient treasuryHttpClient(
+            PoolingHttpClientConnectionManager connectionManager,
+            TreasuryProperties properties) {
+
+        TreasuryProperties.Http http = properties.getHttp();
+
+        HttpClientBuilder clientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(http.getKeepAlive()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getKeepAlive()));
+
+        if (!http.isCompression()) {
+            clientBuilder.disableContentCompression();
+        }
+
+        return clientBuilder.build();
+    }
+
+    /**
+     * Builder configured like Spring Boot's auto-configured one, so observation and message converters are kept,
+     * with the Treasury transport plugged in.
+     */
+    @Bean(TREASURY_REST_CLIENT_BUILDER)
+    public RestClient.Builder treasuryRestClientBuilder(
+            RestClientBuilderConfigurer configurer,
+            @Qualifier("treasuryClientHttpRequestFactory") ClientHttpRequestFactory requestFactory,
+            TreasuryProperties properties) {
+
+        RestClient.Builder treasuryBuilder = configurer.configure(RestClient.builder())
+                .requestFactory(requestFactory);
+
+        if (properties.getHttp().getClient() == TreasuryProperties.Http.Client.JDK && properties.getHttp().isCompression()) {
+            treasuryBuilder.requestInterceptor(new GzipDecompressingInterceptor());
+        }
+
+        return treasuryBuilder;
+    }
+
+    private static JdkClientHttpRequestFactory jdkRequestFactory(TreasuryProperties.Http http) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(http.getConnectTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(client);
+        requestFactory.setReadTimeout(http.getReadTimeout());
+        return requestFactory;
+    }
+}
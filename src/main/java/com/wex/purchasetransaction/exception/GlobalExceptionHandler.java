@@ -1,5 +1,6 @@
 package com.wex.purchasetransaction.exception;
 
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryUnavailableException;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +19,8 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -48,6 +51,13 @@ public class GlobalExceptionHandler {
                 .body(ApiError.of(HttpStatus.NOT_FOUND, ex.getMessage()));
     }
 
+    @ExceptionHandler(TreasuryUnavailableException.class)
+    public ResponseEntity<ApiError> handleTreasuryUnavailable(TreasuryUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiError.of(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
         Map<String, String> details = ex.getBindingResult()
@@ -78,6 +88,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ApiError.validationError(details));
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiError> handleHandlerMethodValidation(HandlerMethodValidationException ex) {
+        Map<String, String> details = ex.getAllValidationResults()
+                .stream()
+                .collect(Collectors.toMap(
+                        result -> Objects.requireNonNullElse(
+                                result.getMethodParameter().getParameterName(),
+                                "parameter"
+                        ),
+                        result -> result.getResolvableErrors()
+                                .stream()
+                                .map(error -> Objects.requireNonNullElse(error.getDefaultMessage(), "Invalid value"))
+                                .collect(Collectors.joining(", ")),
+                        (a, b) -> a
+                ));
+
+        return ResponseEntity.badRequest().body(ApiError.validationError(details));
+    }
+
+    @ExceptionHandler({InvalidRequestException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ApiError> handleBadRequest(Exception ex) {
+        String message = ex instanceof MethodArgumentTypeMismatchException mismatch
+                ? "Invalid value for parameter '%s'".formatted(mismatch.getName())
+                : ex.getMessage();
+
+        return ResponseEntity
+                .badRequest()
+                .body(ApiError.of(HttpStatus.BAD_REQUEST, message));
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiError> handleBadCredentials(BadCredentialsException ex) {
         return ResponseEntity
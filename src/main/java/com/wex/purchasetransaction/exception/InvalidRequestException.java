@@ -0,0 +1,12 @@
+package com.wex.purchasetransaction.exception;
+
+/**
+ * Thrown when a request is well-formed but its values are rejected, such as an inverted range or an unknown
+ * cursor. Mapped to {@code 400 Bad Request} with the message as the client-facing error.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,77 @@
+package com.wex.purchasetransaction.simulator;
+
+import com.wex.purchasetransaction.config.properties.TreasurySimulatorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Decides how the simulator misbehaves on each request.
+ * <p>
+ * Every request first waits {@code latency} plus a uniform random share of {@code latencyJitter}. It then
+ * fails with {@code errorStatus} with probability {@code errorRate}, or hangs for {@code timeoutDelay} with
+ * probability {@code timeoutRate}. Set the delay above the client's read timeout to produce real timeouts.
+ */
+@Component
+@Profile(TreasurySimulatorController.PROFILE)
+public class TreasuryFaultInjector {
+
+    private final TreasurySimulatorProperties properties;
+    private final Sleeper sleeper;
+    private final DoubleSupplier random;
+
+    @Autowired
+    public TreasuryFaultInjector(TreasurySimulatorProperties properties) {
+        this(properties, Thread::sleep, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    TreasuryFaultInjector(TreasurySimulatorProperties properties, Sleeper sleeper, DoubleSupplier random) {
+        this.properties = properties;
+        this.sleeper = sleeper;
+        this.random = random;
+    }
+
+    /**
+     * Applies the configured latency and returns the fault to simulate for this request.
+     * A {@link Fault#TIMEOUT} has already waited out {@code timeoutDelay} when this returns.
+     */
+    public Fault next() throws InterruptedException {
+        long jitterMs = (long) (random.getAsDouble() * properties.getLatencyJitter().toMillis());
+        sleep(properties.getLatency().plusMillis(jitterMs));
+
+        double roll = random.getAsDouble();
+
+        if (roll < properties.getErrorRate()) {
+            return Fault.ERROR;
+        }
+        if (roll < properties.getErrorRate() + properties.getTimeoutRate()) {
+            sleep(properties.getTimeoutDelay());
+            return Fault.TIMEOUT;
+        }
+        return Fault.NONE;
+    }
+
+    public int errorStatus() {
+        return properties.getErrorStatus();
+    }
+
+    private void sleep(Duration duration) throws InterruptedException {
+        if (duration.isPositive()) {
+            sleeper.sleep(duration.toMillis());
+        }
+    }
+
+    public enum Fault {
+        NONE,
+        ERROR,
+        TIMEOUT
+    }
+
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
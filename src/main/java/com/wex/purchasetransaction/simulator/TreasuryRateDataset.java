@@ -0,0 +1,242 @@
+package com.wex.purchasetransaction.simulator;
+
+import com.wex.purchasetransaction.config.properties.TreasurySimulatorProperties;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * In-memory copy of a {@code rates_of_exchange} extract, queried with the same {@code filter}, {@code sort}
+ * and {@code fields} syntax as the Fiscal Data API.
+ * <p>
+ * The bundled CSV only carries the source columns; the remaining Fiscal Data columns (description, fiscal
+ * and calendar breakdown, line number) are derived on load so responses look like the real service. Like
+ * the real API, every value is returned as a string.
+ */
+@Component
+@Profile(TreasurySimulatorController.PROFILE)
+public class TreasuryRateDataset {
+
+    private static final Logger log = LoggerFactory.getLogger(TreasuryRateDataset.class);
+
+    static final List<String> COLUMNS = List.of(
+            "record_date", "country", "currency", "country_currency_desc", "exchange_rate", "effective_date",
+            "src_line_nbr", "record_fiscal_year", "record_fiscal_quarter", "record_calendar_year",
+            "record_calendar_quarter", "record_calendar_month", "record_calendar_day"
+    );
+
+    private final List<Map<String, String>> rows;
+
+    @Autowired
+    public TreasuryRateDataset(TreasurySimulatorProperties properties, ResourceLoader resourceLoader) {
+        this(resourceLoader.getResource(properties.getDataset()));
+    }
+
+    TreasuryRateDataset(Resource resource) {
+        this.rows = load(resource);
+        log.info("Treasury simulator dataset loaded [rows={}, source={}]", rows.size(), resource.getDescription());
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Returns the rows matching {@code filter}, ordered by {@code sort} and projected to {@code fields}.
+     * Any argument may be {@code null}; an unknown column or operator is rejected with
+     * {@link InvalidRequestException}.
+     */
+    public List<Map<String, String>> query(String filter, String sort, String fields) {
+        Predicate<Map<String, String>> predicate = parseFilter(filter);
+        List<String> projection = parseFields(fields);
+
+        return rows.stream()
+                .filter(predicate)
+                .sorted(parseSort(sort))
+                .map(row -> project(row, projection))
+                .toList();
+    }
+
+    private static Predicate<Map<String, String>> parseFilter(String filter) {
+        Predicate<Map<String, String>> predicate = row -> true;
+
+        if (filter == null || filter.isBlank()) {
+            return predicate;
+        }
+
+        for (String clause : splitOutsideParentheses(filter)) {
+            String[] parts = clause.split(":", 3);
+
+            if (parts.length != 3) {
+                throw new InvalidRequestException("Invalid filter clause '%s'".formatted(clause));
+            }
+
+            predicate = predicate.and(condition(column(parts[0]), parts[1], parts[2]));
+        }
+
+        return predicate;
+    }
+
+    private static Predicate<Map<String, String>> condition(String column, String operator, String value) {
+        return switch (operator) {
+            case "eq" -> row -> compare(row.get(column), value) == 0;
+            case "lt" -> row -> compare(row.get(column), value) < 0;
+            case "lte" -> row -> compare(row.get(column), value) <= 0;
+            case "gt" -> row -> compare(row.get(column), value) > 0;
+            case "gte" -> row -> compare(row.get(column), value) >= 0;
+            case "in" -> {
+                if (!value.startsWith("(") || !value.endsWith(")")) {
+                    throw new InvalidRequestException("Operator 'in' expects a parenthesised list");
+                }
+                Set<String> values = Set.copyOf(Arrays.asList(value.substring(1, value.length() - 1).split(",")));
+                yield row -> values.contains(row.get(column));
+            }
+            default -> throw new InvalidRequestException("Unsupported filter operator '%s'".formatted(operator));
+        };
+    }
+
+    private static Comparator<Map<String, String>> parseSort(String sort) {
+        Comparator<Map<String, String>> comparator = (a, b) -> 0;
+
+        if (sort == null || sort.isBlank()) {
+            return comparator;
+        }
+
+        for (String field : sort.split(",")) {
+            boolean descending = field.startsWith("-");
+            String column = column(descending ? field.substring(1) : field);
+            Comparator<Map<String, String>> byColumn = (a, b) -> compare(a.get(column), b.get(column));
+
+            comparator = comparator.thenComparing(descending ? byColumn.reversed() : byColumn);
+        }
+
+        return comparator;
+    }
+
+    private static List<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return COLUMNS;
+        }
+        return Arrays.stream(fields.split(",")).map(TreasuryRateDataset::column).toList();
+    }
+
+    private static Map<String, String> project(Map<String, String> row, List<String> projection) {
+        Map<String, String> projected = new LinkedHashMap<>();
+        projection.forEach(column -> projected.put(column, row.get(column)));
+        return projected;
+    }
+
+    private static String column(String name) {
+        if (!COLUMNS.contains(name)) {
+            throw new InvalidRequestException("Unknown field '%s'".formatted(name));
+        }
+        return name;
+    }
+
+    /**
+     * Compares numerically when both sides are numbers and lexically otherwise, which orders ISO dates correctly.
+     */
+    private static int compare(String left, String right) {
+        try {
+            return new BigDecimal(left).compareTo(new BigDecimal(right));
+        } catch (NumberFormatException ex) {
+            return left.compareTo(right);
+        }
+    }
+
+    private static List<String> splitOutsideParentheses(String value) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(value.substring(start));
+
+        return parts;
+    }
+
+    private static List<Map<String, String>> load(Resource resource) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        Map<String, Integer> linesPerDate = new HashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+
+            List<String> header = List.of(reader.readLine().split(","));
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                String[] values = line.split(",", -1);
+                Map<String, String> source = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    source.put(header.get(i), values[i]);
+                }
+
+                rows.add(toRow(source, linesPerDate.merge(source.get("record_date"), 1, Integer::sum)));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to load Treasury simulator dataset " + resource, ex);
+        }
+
+        return List.copyOf(rows);
+    }
+
+    private static Map<String, String> toRow(Map<String, String> source, int lineNumber) {
+        LocalDate recordDate = LocalDate.parse(source.get("record_date"));
+        int month = recordDate.getMonthValue();
+
+        Map<String, String> row = new HashMap<>();
+        row.put("record_date", recordDate.toString());
+        row.put("country", source.get("country"));
+        row.put("currency", source.get("currency"));
+        row.put("country_currency_desc", source.get("country") + "-" + source.get("currency"));
+        row.put("exchange_rate", source.get("exchange_rate"));
+        row.put("effective_date", source.get("effective_date"));
+        row.put("src_line_nbr", String.valueOf(lineNumber));
+        row.put("record_fiscal_year", String.valueOf(month >= 10 ? recordDate.getYear() + 1 : recordDate.getYear()));
+        row.put("record_fiscal_quarter", String.valueOf((month + 2) % 12 / 3 + 1));
+        row.put("record_calendar_year", String.valueOf(recordDate.getYear()));
+        row.put("record_calendar_quarter", String.valueOf((month - 1) / 3 + 1));
+        row.put("record_calendar_month", "%02d".formatted(month));
+        row.put("record_calendar_day", "%02d".formatted(recordDate.getDayOfMonth()));
+
+        return Map.copyOf(row);
+    }
+}
@@ -0,0 +1,108 @@
+package com.wex.purchasetransaction.simulator;
+
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import io.swagger.v3.oas.annotations.Hidden;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline stand-in for the Fiscal Data {@code rates_of_exchange} endpoint, active only under the
+ * {@code treasury-sim} profile. Serves {@link TreasuryRateDataset} with the real response envelope
+ * ({@code data}, {@code meta}, {@code links}) after applying {@link TreasuryFaultInjector}.
+ */
+@Hidden
+@RestController
+@Profile(TreasurySimulatorController.PROFILE)
+@RequestMapping(TreasurySimulatorController.PATH)
+public class TreasurySimulatorController {
+
+    public static final String PROFILE = "treasury-sim";
+    public static final String PATH = "/simulator/treasury/rates_of_exchange";
+
+    private static final Logger log = LoggerFactory.getLogger(TreasurySimulatorController.class);
+
+    private static final int MAX_PAGE_SIZE = 10_000;
+
+    private final TreasuryRateDataset dataset;
+    private final TreasuryFaultInjector faultInjector;
+
+    public TreasurySimulatorController(TreasuryRateDataset dataset, TreasuryFaultInjector faultInjector) {
+        this.dataset = dataset;
+        this.faultInjector = faultInjector;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> ratesOfExchange(
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            @RequestParam(name = "page[number]", defaultValue = "1") int pageNumber,
+            @RequestParam(name = "page[size]", defaultValue = "100") int pageSize
+    ) throws InterruptedException {
+
+        switch (faultInjector.next()) {
+            case ERROR -> {
+                log.debug("Simulating Treasury error [filter={}]", filter);
+                return error(faultInjector.errorStatus(), "Simulated Treasury failure");
+            }
+            case TIMEOUT -> {
+                log.debug("Simulated Treasury timeout elapsed [filter={}]", filter);
+                return error(HttpStatus.GATEWAY_TIMEOUT.value(), "Simulated Treasury timeout");
+            }
+            case NONE -> { }
+        }
+
+        if (pageNumber < 1 || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException(
+                    "page[number] must be positive and page[size] between 1 and %d".formatted(MAX_PAGE_SIZE));
+        }
+
+        List<Map<String, String>> matches = dataset.query(filter, sort, fields);
+
+        int totalCount = matches.size();
+        int totalPages = Math.max(1, (totalCount + pageSize - 1) / pageSize);
+        int from = Math.min(totalCount, (pageNumber - 1) * pageSize);
+        List<Map<String, String>> page = matches.subList(from, Math.min(totalCount, from + pageSize));
+
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("count", page.size());
+        meta.put("total-count", totalCount);
+        meta.put("total-pages", totalPages);
+
+        Map<String, Object> links = new LinkedHashMap<>();
+        links.put("self", pageLink(pageNumber, pageSize));
+        links.put("first", pageLink(1, pageSize));
+        links.put("prev", pageNumber > 1 ? pageLink(pageNumber - 1, pageSize) : null);
+        links.put("next", pageNumber < totalPages ? pageLink(pageNumber + 1, pageSize) : null);
+        links.put("last", pageLink(totalPages, pageSize));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("data", page);
+        body.put("meta", meta);
+        body.put("links", links);
+
+        return ResponseEntity.ok(body);
+    }
+
+    private static String pageLink(int pageNumber, int pageSize) {
+        return "&page%%5Bnumber%%5D=%d&page%%5Bsize%%5D=%d".formatted(pageNumber, pageSize);
+    }
+
+    private static ResponseEntity<Map<String, Object>> error(int status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", HttpStatus.valueOf(status).getReasonPhrase());
+        body.put("message", message);
+        return ResponseEntity.status(status).body(body);
+    }
+}
@@ -1,10 +1,21 @@
 package com.wex.purchasetransaction.transaction.api;
 
 import com.wex.purchasetransaction.exception.ApiError;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
 import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionBatchRequest;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionBatchResponse;
 import com.wex.purchasetransaction.transaction.api.dto.TransactionCreatedResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionImportResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionPageResponse;
 import com.wex.purchasetransaction.transaction.api.dto.TransactionRequest;
 import com.wex.purchasetransaction.transaction.service.TransactionService;
+import com.wex.purchasetransaction.transaction.service.batch.TransactionBatchService;
+import com.wex.purchasetransaction.transaction.service.export.ExportFormat;
+import com.wex.purchasetransaction.transaction.service.export.TransactionExportService;
+import com.wex.purchasetransaction.transaction.service.importer.ImportFormat;
+import com.wex.purchasetransaction.transaction.service.importer.TransactionImportService;
+import com.wex.purchasetransaction.transaction.service.listing.TransactionListingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,12 +24,29 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 @Tag(name = "Transactions", description = "Purchase transaction operations")
 @SecurityRequirement(name = "bearerAuth")
@@ -29,9 +57,22 @@ public class TransactionController {
     private static final Logger log = LoggerFactory.getLogger(TransactionController.class);
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionBatchService transactionBatchService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionListingService transactionListingService;
 
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(
+            TransactionService transactionService,
+            TransactionExportService transactionExportService,
+            TransactionBatchService transactionBatchService,
+            TransactionImportService transactionImportService,
+            TransactionListingService transactionListingService) {
         this.transactionService = transactionService;
+        this.transactionExportService = transactionExportService;
+        this.transactionBatchService = transactionBatchService;
+        this.transactionImportService = transactionImportService;
+        this.transactionListingService = transactionListingService;
     }
 
     @Operation(
@@ -62,6 +103,133 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "List transactions",
+            description = "Lists the authenticated user's transactions ordered by transaction date, optionally filtered "
+                    + "by date range and USD amount. Pages are cursor-based: pass the returned nextCursor as cursor to "
+                    + "get the following page"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page returned",
+                    content = @Content(schema = @Schema(implementation = TransactionPageResponse.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid range, limit or cursor",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden")
+    })
+    @GetMapping
+    public ResponseEntity<TransactionPageResponse> listTransactions(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) BigDecimal minAmount,
+        @RequestParam(required = false) BigDecimal maxAmount,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50")
+        @Min(value = 1, message = "Limit must be at least 1")
+        @Max(value = 500, message = "Limit must not exceed 500")
+        int limit
+    ) {
+        log.debug("Listing transactions [from={}, to={}, minAmount={}, maxAmount={}, limit={}]", from, to, minAmount, maxAmount, limit);
+        return ResponseEntity.ok(transactionListingService.listTransactions(from, to, minAmount, maxAmount, cursor, limit));
+    }
+
+    @Operation(
+            summary = "Store a batch of purchase transactions",
+            description = "Validates each transaction independently and stores every valid one in a single database "
+                    + "transaction. Returns the created id or the validation errors of each item, by position"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; see the per-item status",
+                    content = @Content(schema = @Schema(implementation = TransactionBatchResponse.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<TransactionBatchResponse> storeTransactions(@Valid @RequestBody TransactionBatchRequest request) {
+        log.debug("Creating transaction batch [size={}]", request.transactions().size());
+        TransactionBatchResponse response = transactionBatchService.storeTransactions(request.transactions());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Import a transaction file",
+            description = "Streams a CSV or NDJSON file of transactions into storage, validating each row like a single "
+                    + "transaction and committing valid rows in checkpointed chunks. Posting the same file again with "
+                    + "the returned importId resumes an interrupted import after its last committed row"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "File imported; invalid rows are counted and the first ones described",
+                    content = @Content(schema = @Schema(implementation = TransactionImportResponse.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing CSV columns, unknown format, or import id in use",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TransactionImportResponse> importTransactions(
+        @RequestParam MultipartFile file,
+        @RequestParam(required = false) ImportFormat format,
+        @RequestParam(required = false) @Size(max = 64, message = "Import id must not exceed 64 characters") String importId
+    ) throws IOException {
+        ImportFormat resolvedFormat = format != null
+                ? format
+                : ImportFormat.fromFileName(file.getOriginalFilename())
+                        .orElseThrow(() -> new InvalidRequestException("Cannot infer the file format; pass 'format'"));
+        String resolvedImportId = importId != null && !importId.isBlank() ? importId : UUID.randomUUID().toString();
+
+        log.debug("Importing transactions [importId={}, format={}, size={}]", resolvedImportId, resolvedFormat, file.getSize());
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(transactionImportService.importTransactions(resolvedImportId, resolvedFormat, input));
+        }
+    }
+
+    @Operation(
+            summary = "Retrieve a transaction import",
+            description = "Returns the last checkpoint of an import: its status and the rows committed so far"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import checkpoint returned",
+                    content = @Content(schema = @Schema(implementation = TransactionImportResponse.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Import not found",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<TransactionImportResponse> retrieveImport(@PathVariable String importId) {
+        return ResponseEntity.ok(transactionImportService.findImport(importId));
+    }
+
     @Operation(
             summary = "Retrieve a converted transaction",
             description = "Retrieves a stored transaction converted to a target currency using Treasury exchange rates"
@@ -92,4 +260,84 @@ public class TransactionController {
         ConvertedTransactionResponse response = transactionService.retrieveConvertedTransaction(id, targetCurrency);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "Retrieve a transaction converted to several currencies",
+            description = "Retrieves a stored transaction once and converts it to every requested currency using Treasury exchange rates"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Converted transaction returned",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ConvertedTransactionResponse.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Transaction or exchange rate not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiError.class)))
+    })
+    @GetMapping(value = "/{id}/converted", params = "targetCurrencies")
+    public ResponseEntity<ConvertedTransactionResponse> retrieveConvertedTransaction(
+        @PathVariable String id,
+        @RequestParam
+        @NotEmpty(message = "At least one target currency is required")
+        @Size(max = 20, message = "At most 20 target currencies are allowed")
+        List<@NotBlank String> targetCurrencies
+    ) {
+        log.debug("Retrieving converted transaction [id={}, targetCurrencies={}]", id, targetCurrencies);
+        ConvertedTransactionResponse response = transactionService.retrieveConvertedTransaction(id, targetCurrencies);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Export converted transactions",
+            description = "Streams every transaction of the authenticated user with a transaction date in the given range, "
+                    + "converted to a target currency, as NDJSON or CSV. Transactions without an exchange rate in the "
+                    + "lookup window are exported with empty rate and converted amount"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export streamed",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportConvertedTransactions(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam @NotBlank String targetCurrency,
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        log.debug("Exporting converted transactions [from={}, to={}, targetCurrency={}, format={}]", from, to, targetCurrency, format);
+        StreamingResponseBody body = transactionExportService.exportConvertedTransactions(from, to, targetCurrency, format);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("transactions-%s-%s.%s".formatted(from, to, format.getExtension()))
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
 }
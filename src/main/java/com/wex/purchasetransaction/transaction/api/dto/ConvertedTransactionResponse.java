@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record ConvertedTransactionResponse(
@@ -13,7 +14,8 @@ public record ConvertedTransactionResponse(
     BigDecimal purchaseAmountUsd,
     BigDecimal exchangeRate,
     BigDecimal convertedAmount,
-    String targetCurrency
+    String targetCurrency,
+    List<CurrencyConversion> conversions
 ) {
     public ConvertedTransactionResponse(String id, String description, LocalDate transactionDate, BigDecimal purchaseAmountUsd) {
         this(
@@ -23,9 +25,48 @@ public record ConvertedTransactionResponse(
             purchaseAmountUsd,
             null,
             null,
+            null,
             null
         );
     }
-}
 
+    public ConvertedTransactionResponse(
+        String id,
+        String description,
+        LocalDate transactionDate,
+        BigDecimal purchaseAmountUsd,
+        BigDecimal exchangeRate,
+        BigDecimal convertedAmount,
+        String targetCurrency
+    ) {
+        this(
+            id,
+            description,
+            transactionDate,
+            purchaseAmountUsd,
+            exchangeRate,
+            convertedAmount,
+            targetCurrency,
+            null
+        );
+    }
 
+    public ConvertedTransactionResponse(
+        String id,
+        String description,
+        LocalDate transactionDate,
+        BigDecimal purchaseAmountUsd,
+        List<CurrencyConversion> conversions
+    ) {
+        this(
+            id,
+            description,
+            transactionDate,
+            purchaseAmountUsd,
+            null,
+            null,
+            null,
+            conversions
+        );
+    }
+}
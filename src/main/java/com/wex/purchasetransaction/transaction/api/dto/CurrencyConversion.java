@@ -0,0 +1,9 @@
+package com.wex.purchasetransaction.transaction.api.dto;
+
+import java.math.BigDecimal;
+
+public record CurrencyConversion(
+    String targetCurrency,
+    BigDecimal exchangeRate,
+    BigDecimal convertedAmount
+) {}
@@ -0,0 +1,27 @@
+package com.wex.purchasetransaction.transaction.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransactionBatchItemResult(
+    int index,
+    Status status,
+    String id,
+    Map<String, String> errors
+) {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    public static TransactionBatchItemResult created(int index, String id) {
+        return new TransactionBatchItemResult(index, Status.CREATED, id, null);
+    }
+
+    public static TransactionBatchItemResult rejected(int index, Map<String, String> errors) {
+        return new TransactionBatchItemResult(index, Status.REJECTED, null, errors);
+    }
+}
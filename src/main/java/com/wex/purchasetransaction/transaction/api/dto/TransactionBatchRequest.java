@@ -0,0 +1,18 @@
+package com.wex.purchasetransaction.transaction.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Items are deliberately not cascaded with {@code @Valid}: each one is validated on its own and reported in
+ * {@link TransactionBatchResponse} instead of failing the whole batch.
+ */
+public record TransactionBatchRequest(
+    @NotEmpty(message = "At least one transaction is required")
+    @Size(max = TransactionBatchRequest.MAX_ITEMS, message = "At most " + TransactionBatchRequest.MAX_ITEMS + " transactions are allowed per batch")
+    List<TransactionRequest> transactions
+) {
+    public static final int MAX_ITEMS = 5000;
+}
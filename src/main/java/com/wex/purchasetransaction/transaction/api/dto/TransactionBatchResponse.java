@@ -0,0 +1,9 @@
+package com.wex.purchasetransaction.transaction.api.dto;
+
+import java.util.List;
+
+public record TransactionBatchResponse(
+    int created,
+    int rejected,
+    List<TransactionBatchItemResult> items
+) {}
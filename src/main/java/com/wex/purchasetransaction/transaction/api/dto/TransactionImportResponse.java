@@ -0,0 +1,22 @@
+package com.wex.purchasetransaction.transaction.api.dto;
+
+import com.wex.purchasetransaction.transaction.repository.TransactionImport;
+
+import java.util.List;
+
+/**
+ * Outcome or progress of a transaction file import. {@code rowsRead} counts data rows, header excluded;
+ * {@code resumedFromRow} is the number of rows skipped because an earlier attempt had already committed them.
+ * {@code errors} describes the first rejected rows of this attempt only.
+ */
+public record TransactionImportResponse(
+    String importId,
+    TransactionImport.Status status,
+    long rowsRead,
+    long created,
+    long rejected,
+    long resumedFromRow,
+    long durationMs,
+    long rowsPerSecond,
+    List<TransactionImportRowError> errors
+) {}
@@ -0,0 +1,8 @@
+package com.wex.purchasetransaction.transaction.api.dto;
+
+import java.util.Map;
+
+public record TransactionImportRowError(
+    long row,
+    Map<String, String> errors
+) {}
@@ -0,0 +1,12 @@
+package com.wex.purchasetransaction.transaction.api.dto;
+
+import java.util.List;
+
+/**
+ * One page of transactions. {@code nextCursor} is {@code null} on the last page; otherwise pass it back as
+ * {@code cursor} to get the following page.
+ */
+public record TransactionPageResponse(
+    List<TransactionSummary> items,
+    String nextCursor
+) {}
@@ -1,5 +1,6 @@
 package com.wex.purchasetransaction.transaction.api.dto;
 
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -17,5 +18,6 @@ public record TransactionRequest(
 
     @NotNull(message = "Purchase amount is required")
     @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @DecimalMax(value = "99999999.99", message = "Amount must not exceed 99999999.99")
     BigDecimal purchaseAmountUsd
 ) {}
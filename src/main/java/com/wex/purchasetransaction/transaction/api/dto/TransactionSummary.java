@@ -0,0 +1,11 @@
+package com.wex.purchasetransaction.transaction.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransactionSummary(
+    String id,
+    String description,
+    LocalDate transactionDate,
+    BigDecimal purchaseAmountUsd
+) {}
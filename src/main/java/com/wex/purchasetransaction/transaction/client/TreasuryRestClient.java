@@ -1,46 +1,65 @@
 package com.wex.purchasetransaction.transaction.client;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.wex.purchasetransaction.config.jfr.TreasuryFetchEvent;
 import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.config.web.TreasuryHttpClientConfig;
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryCallGuard;
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryRetryExecutor;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
 import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 @Component
 public class TreasuryRestClient {
 
     private static final Logger log = LoggerFactory.getLogger(TreasuryRestClient.class);
 
+    static final int BATCH_PAGE_SIZE = 1000;
+
     private final RestClient restClient;
+    private final TreasuryCallGuard callGuard;
+    private final TreasuryRetryExecutor retryExecutor;
+    private final JsonFactory jsonFactory = new JsonFactory();
 
     public TreasuryRestClient(
-            RestClient.Builder builder,
-            TreasuryProperties properties) {
+            @Qualifier(TreasuryHttpClientConfig.TREASURY_REST_CLIENT_BUILDER) RestClient.Builder builder,
+            TreasuryProperties properties,
+            TreasuryCallGuard callGuard,
+            TreasuryRetryExecutor retryExecutor) {
 
         this.restClient = builder
                 .baseUrl(properties.getBaseUrl())
                 .build();
+        this.callGuard = callGuard;
+        this.retryExecutor = retryExecutor;
     }
 
-    @Retryable(
-            retryFor = {
-                    ResourceAccessException.class,
-                    HttpServerErrorException.class
-            },
-            maxAttemptsExpression = "#{@treasuryRetryProperties.maxAttempts}",
-            backoff = @Backoff(
-                    delayExpression = "#{@treasuryRetryProperties.delayMs}"
-            )
-    )
     public TreasuryResponse fetchRates(String filter) {
         log.debug("Calling Treasury API with filter={}", filter);
 
-        return restClient.get()
+        return call("latest", filter, 1, () -> restClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .queryParam("filter", filter)
                         .queryParam("sort", "-record_date")
@@ -48,7 +67,168 @@ public class TreasuryRestClient {
                         .build()
                 )
                 .retrieve()
-                .body(TreasuryResponse.class);
+                .body(TreasuryResponse.class));
     }
-}
 
+    public TreasuryResponse fetchRatesPage(String filter, int pageNumber, int pageSize) {
+        log.debug("Calling Treasury API with filter={}, page={}, size={}", filter, pageNumber, pageSize);
+
+        return call("page", filter, pageNumber, () -> restClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder
+                            .queryParam("fields", "record_date,country_currency_desc,currency,exchange_rate")
+                            .queryParam("sort", "record_date,country_currency_desc")
+                            .queryParam("page[number]", pageNumber)
+                            .queryParam("page[size]", pageSize);
+                    if (filter != null) {
+                        uriBuilder.queryParam("filter", filter);
+                    }
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .body(TreasuryResponse.class));
+    }
+
+    /**
+     * Fetches every rate published for the given currencies between {@code from} and {@code to} (inclusive)
+     * using a single {@code currency:in:(...)} filter, following pagination until the last page.
+     * <p>
+     * Responses are parsed incrementally with Jackson's streaming parser, so no page is ever bound to a
+     * {@link TreasuryResponse} as a whole. Each attempt parses into its own list, which is kept only once the
+     * page has been read in full, so a retried page never contributes its rows twice.
+     */
+    public List<TreasuryRate> fetchRates(Set<String> currencies, LocalDate from, LocalDate to) {
+        String filter = "currency:in:(%s),record_date:gte:%s,record_date:lte:%s"
+                .formatted(String.join(",", currencies), from, to);
+
+        List<TreasuryRate> rates = new ArrayList<>();
+        int pageNumber = 1;
+        int totalPages;
+
+        do {
+            int page = pageNumber;
+            log.debug("Calling Treasury API with filter={}, page={}", filter, page);
+
+            RatePage ratePage = call("range", filter, page, () -> restClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .queryParam("fields", "record_date,country_currency_desc,currency,exchange_rate")
+                            .queryParam("filter", filter)
+                            .queryParam("sort", "currency,record_date")
+                            .queryParam("page[number]", page)
+                            .queryParam("page[size]", BATCH_PAGE_SIZE)
+                            .build()
+                    )
+                    .exchange((request, response) -> readPage(response), true));
+            rates.addAll(ratePage.rates());
+            totalPages = ratePage.totalPages();
+            pageNumber++;
+        } while (pageNumber <= totalPages);
+
+        return rates;
+    }
+
+    /**
+     * Runs one Treasury HTTP call with retries, each attempt passing through the bulkhead and circuit breaker
+     * and recorded as a {@link TreasuryFetchEvent}.
+     */
+    private <T> T call(String operation, String filter, int page, Supplier<T> request) {
+        AtomicInteger attempts = new AtomicInteger();
+
+        return retryExecutor.execute(() -> {
+            int attempt = attempts.incrementAndGet();
+            TreasuryFetchEvent event = new TreasuryFetchEvent();
+            event.begin();
+
+            try {
+                T result = callGuard.call(request);
+                event.complete(operation, filter, page, attempt, "success");
+                return result;
+            } catch (RuntimeException ex) {
+                event.complete(operation, filter, page, attempt, ex.getClass().getSimpleName());
+                throw ex;
+            }
+        });
+    }
+
+    private RatePage readPage(ClientHttpResponse response) throws IOException {
+        if (response.getStatusCode().isError()) {
+            byte[] body = StreamUtils.copyToByteArray(response.getBody());
+            String statusText = response.getStatusText();
+
+            if (response.getStatusCode().is5xxServerError()) {
+                throw HttpServerErrorException.create(
+                        response.getStatusCode(), statusText, response.getHeaders(), body, StandardCharsets.UTF_8);
+            }
+            throw HttpClientErrorException.create(
+                    response.getStatusCode(), statusText, response.getHeaders(), body, StandardCharsets.UTF_8);
+        }
+
+        List<TreasuryRate> rates = new ArrayList<>();
+        int totalPages = 1;
+
+        try (JsonParser parser = jsonFactory.createParser(response.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new RatePage(rates, totalPages);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                switch (field) {
+                    case "data" -> readRates(parser, rates::add);
+                    case "meta" -> totalPages = readTotalPages(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        return new RatePage(rates, totalPages);
+    }
+
+    private static void readRates(JsonParser parser, Consumer<TreasuryRate> consumer) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            LocalDate recordDate = null;
+            String countryCurrencyDesc = null;
+            String currency = null;
+            BigDecimal exchangeRate = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                switch (field) {
+                    case "record_date" -> recordDate = parser.getValueAsString() == null
+                            ? null : LocalDate.parse(parser.getValueAsString());
+                    case "country_currency_desc" -> countryCurrencyDesc = parser.getValueAsString();
+                    case "currency" -> currency = parser.getValueAsString();
+                    case "exchange_rate" -> exchangeRate = parser.getValueAsString() == null
+                            ? null : new BigDecimal(parser.getValueAsString());
+                    default -> parser.skipChildren();
+                }
+            }
+
+            consumer.accept(new TreasuryRate(recordDate, countryCurrencyDesc, currency, exchangeRate));
+        }
+    }
+
+    private static int readTotalPages(JsonParser parser) throws IOException {
+        int totalPages = 1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            if ("total-pages".equals(field)) {
+                totalPages = parser.getValueAsInt(1);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return totalPages;
+    }
+
+    private record RatePage(List<TreasuryRate> rates, int totalPages) {
+    }
+}
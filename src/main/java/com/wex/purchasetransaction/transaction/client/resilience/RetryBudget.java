@@ -0,0 +1,67 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+import com.wex.purchasetransaction.config.properties.TreasuryRetryProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding-window retry budget shared by every Treasury call in the process.
+ * <p>
+ * The window is split into ten buckets of first attempts and retries. A retry is allowed while the retries in the
+ * window stay below {@code ratio} times the first attempts plus {@code minRetries}.
+ */
+class RetryBudget {
+
+    private static final int BUCKETS = 10;
+
+    private final TreasuryRetryProperties.Budget config;
+    private final LongSupplier nanoClock;
+    private final long bucketNanos;
+
+    private final long[] firstAttempts = new long[BUCKETS];
+    private final long[] retries = new long[BUCKETS];
+    private long currentBucket;
+
+    RetryBudget(TreasuryRetryProperties.Budget config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.bucketNanos = Math.max(1, config.getWindow().toNanos() / BUCKETS);
+        this.currentBucket = nanoClock.getAsLong() / bucketNanos;
+    }
+
+    synchronized void recordFirstAttempt() {
+        firstAttempts[advance()]++;
+    }
+
+    synchronized boolean tryAcquireRetry() {
+        int bucket = advance();
+        long windowFirstAttempts = 0;
+        long windowRetries = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            windowFirstAttempts += firstAttempts[i];
+            windowRetries += retries[i];
+        }
+
+        if (windowRetries >= config.getMinRetries() + config.getRatio() * windowFirstAttempts) {
+            return false;
+        }
+
+        retries[bucket]++;
+        return true;
+    }
+
+    private int advance() {
+        long bucket = nanoClock.getAsLong() / bucketNanos;
+        long elapsed = Math.min(bucket - currentBucket, BUCKETS);
+
+        for (long i = 1; i <= elapsed; i++) {
+            int index = (int) ((currentBucket + i) % BUCKETS);
+            firstAttempts[index] = 0;
+            retries[index] = 0;
+        }
+
+        currentBucket = Math.max(currentBucket, bucket);
+        return (int) (currentBucket % BUCKETS);
+    }
+}
@@ -0,0 +1,110 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+import com.wex.purchasetransaction.config.properties.TreasuryRetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead and circuit breaker wrapped around every outbound Treasury call.
+ * <p>
+ * The bulkhead bounds how many request threads can be tied up in Treasury at once, so a degraded Treasury
+ * cannot starve endpoints that never call it. The circuit breaker stops calling Treasury altogether once
+ * most recent calls failed. Both reject with {@link TreasuryUnavailableException}. Only I/O errors, 5xx and
+ * 429 responses count as failures; other 4xx responses mean Treasury is up.
+ */
+@Component
+public class TreasuryCallGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(TreasuryCallGuard.class);
+
+    private final Semaphore bulkhead;
+    private final TreasuryRetryProperties.Bulkhead bulkheadConfig;
+    private final TreasuryCircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+
+    public TreasuryCallGuard(TreasuryRetryProperties properties, MeterRegistry meterRegistry) {
+        this.bulkheadConfig = properties.getBulkhead();
+        this.bulkhead = new Semaphore(bulkheadConfig.getMaxConcurrentCalls(), true);
+        this.circuitBreaker = new TreasuryCircuitBreaker(properties.getCircuitBreaker());
+
+        this.bulkheadRejections = Counter.builder("treasury.calls.rejected")
+                .tag("reason", "bulkhead")
+                .register(meterRegistry);
+        this.circuitRejections = Counter.builder("treasury.calls.rejected")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        Gauge.builder("treasury.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitRejections.increment();
+            throw new TreasuryUnavailableException("Treasury API is temporarily unavailable (circuit open)");
+        }
+
+        if (!acquireBulkhead()) {
+            circuitBreaker.releasePermission();
+            bulkheadRejections.increment();
+            throw new TreasuryUnavailableException("Too many concurrent Treasury calls");
+        }
+
+        boolean outcomeRecorded = false;
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess();
+            outcomeRecorded = true;
+            return result;
+        } catch (ResourceAccessException | HttpServerErrorException | HttpClientErrorException.TooManyRequests ex) {
+            circuitBreaker.onFailure();
+            outcomeRecorded = true;
+            if (circuitBreaker.state() == TreasuryCircuitBreaker.State.OPEN) {
+                log.warn("Treasury circuit breaker open [failureRate={}]", circuitBreaker.failureRate());
+            }
+            throw ex;
+        } catch (RuntimeException ex) {
+            circuitBreaker.onSuccess();
+            outcomeRecorded = true;
+            throw ex;
+        } finally {
+            if (!outcomeRecorded) {
+                // An Error escaped the call: hand back a half-open trial slot instead of leaking it
+                circuitBreaker.releasePermission();
+            }
+            bulkhead.release();
+        }
+    }
+
+    public TreasuryCircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public int availableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    public int maxConcurrentCalls() {
+        return bulkheadConfig.getMaxConcurrentCalls();
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadConfig.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
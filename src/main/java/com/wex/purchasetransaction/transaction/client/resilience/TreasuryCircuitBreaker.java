@@ -0,0 +1,157 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+import com.wex.purchasetransaction.config.properties.TreasuryRetryProperties;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker over the outcomes of the most recent Treasury calls.
+ * <p>
+ * State is small and transitions are rare, so every operation simply synchronizes on the breaker.
+ */
+public class TreasuryCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final TreasuryRetryProperties.CircuitBreaker config;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public TreasuryCircuitBreaker(TreasuryRetryProperties.CircuitBreaker config) {
+        this(config, System::nanoTime);
+    }
+
+    TreasuryCircuitBreaker(TreasuryRetryProperties.CircuitBreaker config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[config.getSlidingWindowSize()];
+    }
+
+    /**
+     * Returns whether a call may proceed. Every permitted call must be followed by {@link #onSuccess()} or
+     * {@link #onFailure()}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (!config.isEnabled()) {
+            return true;
+        }
+
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < config.getOpenDuration().toNanos()) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= config.getHalfOpenCalls()) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a permission that was granted but not used for a call, without recording an outcome.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+
+        if (recorded >= config.getMinimumCalls()
+                && failures * 100 >= config.getFailureRateThreshold() * recorded) {
+            open();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Failure percentage over the current window, or -1 while fewer than {@code minimumCalls} were recorded.
+     */
+    public synchronized float failureRate() {
+        return recorded < config.getMinimumCalls() ? -1 : failures * 100f / recorded;
+    }
+
+    public synchronized int bufferedCalls() {
+        return recorded;
+    }
+
+    /**
+     * Time left before an open breaker lets trial calls through, or zero when not open.
+     */
+    public synchronized Duration remainingOpenTime() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        long remaining = config.getOpenDuration().toNanos() - (nanoClock.getAsLong() - openedAt);
+        return Duration.ofNanos(Math.max(0, remaining));
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exposes the Treasury circuit breaker and bulkhead state at {@code /actuator/treasury}.
+ */
+@Component
+@Endpoint(id = "treasury")
+public class TreasuryResilienceEndpoint {
+
+    private final TreasuryCallGuard callGuard;
+
+    public TreasuryResilienceEndpoint(TreasuryCallGuard callGuard) {
+        this.callGuard = callGuard;
+    }
+
+    @ReadOperation
+    public Map<String, Object> state() {
+        TreasuryCircuitBreaker circuitBreaker = callGuard.circuitBreaker();
+
+        Map<String, Object> breaker = new LinkedHashMap<>();
+        breaker.put("state", circuitBreaker.state());
+        breaker.put("failureRate", circuitBreaker.failureRate());
+        breaker.put("bufferedCalls", circuitBreaker.bufferedCalls());
+        breaker.put("remainingOpenTime", circuitBreaker.remainingOpenTime().toString());
+
+        Map<String, Object> bulkhead = new LinkedHashMap<>();
+        bulkhead.put("maxConcurrentCalls", callGuard.maxConcurrentCalls());
+        bulkhead.put("availableConcurrentCalls", callGuard.availableConcurrentCalls());
+
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("circuitBreaker", breaker);
+        state.put("bulkhead", bulkhead);
+        return state;
+    }
+}
@@ -0,0 +1,208 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+import com.wex.purchasetransaction.config.properties.TreasuryRetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Retries transient Treasury failures with capped exponential backoff and full jitter.
+ * <p>
+ * Each retry waits a random delay in {@code [0, min(maxDelayMs, delayMs * multiplier^(retry - 1))]}, so nodes
+ * hit by the same incident do not retry in lockstep. A {@code Retry-After} header on a 429 or 5xx response
+ * sets the minimum wait; if it asks for longer than {@code maxRetryAfter} the call fails instead. All retries
+ * draw from one process-wide {@link RetryBudget}. I/O errors, 5xx and 429 responses are retried.
+ * {@link TreasuryUnavailableException} is never retried.
+ */
+@Component
+public class TreasuryRetryExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(TreasuryRetryExecutor.class);
+
+    private final TreasuryRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final RetryBudget budget;
+    private final Sleeper sleeper;
+    private final DoubleSupplier random;
+    private final Counter firstAttempts;
+    private final Counter retries;
+    private final Counter budgetExhausted;
+    private final Map<AttemptTags, Timer> attemptTimers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TreasuryRetryExecutor(TreasuryRetryProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime, Thread::sleep, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    TreasuryRetryExecutor(
+            TreasuryRetryProperties properties,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock,
+            Sleeper sleeper,
+            DoubleSupplier random) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.budget = new RetryBudget(properties.getBudget(), nanoClock);
+        this.sleeper = sleeper;
+        this.random = random;
+
+        this.firstAttempts = Counter.builder("treasury.calls.attempts")
+                .tag("attempt", "first")
+                .register(meterRegistry);
+        this.retries = Counter.builder("treasury.calls.attempts")
+                .tag("attempt", "retry")
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("treasury.retry.budget.exhausted")
+                .description("Retries skipped because the process-wide retry budget was spent")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        budget.recordFirstAttempt();
+        firstAttempts.increment();
+
+        for (int attempt = 1; ; attempt++) {
+            long start = nanoClock.getAsLong();
+
+            try {
+                T result = call.get();
+                recordAttempt(attempt, "success", start);
+                return result;
+            } catch (RuntimeException ex) {
+                recordAttempt(attempt, outcome(ex), start);
+
+                if (!isRetryable(ex) || attempt >= properties.getMaxAttempts()) {
+                    throw ex;
+                }
+
+                Duration retryAfter = retryAfter(ex);
+
+                if (retryAfter != null && retryAfter.compareTo(properties.getMaxRetryAfter()) > 0) {
+                    log.warn("Treasury asked to retry too late, giving up [retryAfter={}]", retryAfter);
+                    throw ex;
+                }
+
+                if (!budget.tryAcquireRetry()) {
+                    budgetExhausted.increment();
+                    log.warn("Treasury retry budget exhausted, not retrying [attempt={}, error={}]", attempt, ex.toString());
+                    throw ex;
+                }
+
+                Duration delay = backoff(attempt, retryAfter);
+                log.debug("Retrying Treasury call [attempt={}, delay={}, error={}]", attempt + 1, delay, ex.toString());
+
+                retries.increment();
+                sleep(delay, ex);
+            }
+        }
+    }
+
+    Duration backoff(int attempt, Duration retryAfter) {
+        double ceiling = Math.min(
+                properties.getMaxDelayMs(),
+                properties.getDelayMs() * Math.pow(properties.getMultiplier(), attempt - 1)
+        );
+        Duration jittered = Duration.ofMillis((long) (random.getAsDouble() * ceiling));
+
+        return retryAfter != null && retryAfter.compareTo(jittered) > 0 ? retryAfter : jittered;
+    }
+
+    /**
+     * Records one attempt in the {@code treasury.calls} latency histogram, tagged by outcome and attempt number.
+     * Both tags are bounded, by the outcome kinds and {@code maxAttempts}, so each timer is built once and cached.
+     */
+    private void recordAttempt(int attempt, String outcome, long startNanos) {
+        attemptTimers.computeIfAbsent(new AttemptTags(outcome, attempt), this::attemptTimer)
+                .record(nanoClock.getAsLong() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer attemptTimer(AttemptTags tags) {
+        return Timer.builder("treasury.calls")
+                .description("Latency of individual Treasury call attempts")
+                .tag("outcome", tags.outcome())
+                .tag("attempt", String.valueOf(tags.attempt()))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String outcome(RuntimeException ex) {
+        return switch (ex) {
+            case TreasuryUnavailableException rejected -> "rejected";
+            case HttpClientErrorException.TooManyRequests throttled -> "throttled";
+            case HttpServerErrorException serverError -> "server_error";
+            case HttpClientErrorException clientError -> "client_error";
+            case ResourceAccessException ioError -> "io_error";
+            default -> "error";
+        };
+    }
+
+    private static boolean isRetryable(RuntimeException ex) {
+        return ex instanceof ResourceAccessException
+                || ex instanceof HttpServerErrorException
+                || ex instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    static Duration retryAfter(RuntimeException ex) {
+        if (!(ex instanceof HttpStatusCodeException statusException) || statusException.getResponseHeaders() == null) {
+            return null;
+        }
+
+        String value = statusException.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration until = Duration.between(ZonedDateTime.now(at.getZone()), at);
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (DateTimeParseException unparseable) {
+                return null;
+            }
+        }
+    }
+
+    private void sleep(Duration delay, RuntimeException cause) {
+        try {
+            sleeper.sleep(delay.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private record AttemptTags(String outcome, int attempt) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+/**
+ * Thrown without calling Treasury when the circuit breaker is open or the bulkhead has no free slot.
+ */
+public class TreasuryUnavailableException extends RuntimeException {
+
+    public TreasuryUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.wex.purchasetransaction.transaction.money;
+
+import java.math.BigDecimal;
+
+/**
+ * An exchange rate as Treasury published it, together with its {@value Money#RATE_SCALE}-place fixed-point form.
+ * The fixed-point form is computed once, when the rate is loaded, so each {@link #convert} is a primitive
+ * multiply. A rate that has no fixed-point form converts through {@link BigDecimal}, with the same result.
+ */
+public record ConversionRate(BigDecimal value, long scaled) {
+
+    private static final long NOT_SCALED = Long.MIN_VALUE;
+
+    public static ConversionRate of(BigDecimal value) {
+        return new ConversionRate(value, Money.isScaledRate(value) ? Money.toScaledRate(value) : NOT_SCALED);
+    }
+
+    /**
+     * {@code cents} times this rate, rounded half-even to cents.
+     */
+    public long convert(long cents) {
+        return scaled != NOT_SCALED ? Money.convert(cents, scaled) : Money.convert(cents, value);
+    }
+}
@@ -0,0 +1,94 @@
+package com.wex.purchasetransaction.transaction.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money arithmetic on primitives. USD amounts are {@code long} cents; exchange rates are
+ * {@code long} millionths ({@value #RATE_SCALE} decimal places, the precision rates are stored with).
+ * <p>
+ * {@link #convert(long, long)} multiplies and rounds half-even to cents without allocating, and returns exactly
+ * what {@code amount.multiply(rate).setScale(2, RoundingMode.HALF_EVEN)} returns for the equivalent
+ * {@link BigDecimal}s. {@link BigDecimal} is only used at the edges, to read requests and write responses.
+ */
+public final class Money {
+
+    public static final int CENTS_SCALE = 2;
+    public static final int RATE_SCALE = 6;
+
+    private static final long RATE_ONE = 1_000_000L;
+    private static final long HALF_RATE_ONE = RATE_ONE / 2;
+
+    private Money() {
+    }
+
+    /**
+     * {@code amount} in cents, rounded half-even, as the API has always rounded incoming amounts.
+     *
+     * @throws ArithmeticException if the amount does not fit in a {@code long} of cents
+     */
+    public static long toCents(BigDecimal amount) {
+        return toCents(amount, RoundingMode.HALF_EVEN);
+    }
+
+    public static long toCents(BigDecimal amount, RoundingMode rounding) {
+        return amount.setScale(CENTS_SCALE, rounding).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    /**
+     * Whether {@code rate} has at most {@value #RATE_SCALE} decimal places and fits in a {@code long} of millionths.
+     */
+    public static boolean isScaledRate(BigDecimal rate) {
+        return rate.scale() <= RATE_SCALE && rate.precision() - rate.scale() <= 18 - RATE_SCALE;
+    }
+
+    /**
+     * @throws ArithmeticException if {@code rate} is not {@linkplain #isScaledRate representable}
+     */
+    public static long toScaledRate(BigDecimal rate) {
+        return rate.scaleByPowerOfTen(RATE_SCALE).longValueExact();
+    }
+
+    /**
+     * {@code cents} times {@code rate}, rounded half-even to cents.
+     */
+    public static long convert(long cents, long scaledRate) {
+        long high = Math.multiplyHigh(cents, scaledRate);
+        long product = cents * scaledRate;
+
+        if (high != (product >> 63)) {
+            return convertWide(cents, scaledRate);
+        }
+
+        long quotient = product / RATE_ONE;
+        long remainder = Math.abs(product % RATE_ONE);
+
+        if (remainder > HALF_RATE_ONE || (remainder == HALF_RATE_ONE && (quotient & 1) != 0)) {
+            quotient += product < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    /**
+     * {@code cents} times a {@link BigDecimal} rate, rounded half-even to cents. Rates with more than
+     * {@value #RATE_SCALE} decimal places fall back to {@link BigDecimal} arithmetic, so the result is the same
+     * for every rate.
+     */
+    public static long convert(long cents, BigDecimal rate) {
+        if (isScaledRate(rate)) {
+            return convert(cents, toScaledRate(rate));
+        }
+        return toCents(fromCents(cents).multiply(rate));
+    }
+
+    /**
+     * The product does not fit in 64 bits; only reachable for amounts and rates far beyond real ones.
+     */
+    private static long convertWide(long cents, long scaledRate) {
+        return toCents(fromCents(cents).multiply(BigDecimal.valueOf(scaledRate, RATE_SCALE)));
+    }
+}
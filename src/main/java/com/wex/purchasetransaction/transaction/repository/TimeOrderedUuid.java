@@ -0,0 +1,68 @@
+package com.wex.purchasetransaction.transaction.repository;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): a 48-bit Unix millisecond timestamp, a 12-bit sequence and 62 random
+ * bits.
+ * <p>
+ * The sequence makes ids strictly increasing within this process, both as UUIDs and as their 16-byte big-endian
+ * form, so new rows always land at the end of the primary key index. It restarts every millisecond, and
+ * overflowing it borrows the next millisecond, as RFC 9562 allows. Advancing it is a single compare-and-set,
+ * and the random bits come from {@link ThreadLocalRandom}, so generation never blocks. Transaction ids are not
+ * secrets: every lookup is also scoped to the owning user.
+ */
+public final class TimeOrderedUuid {
+
+    private static final int CANONICAL_LENGTH = 36;
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long start = System.currentTimeMillis() << SEQUENCE_BITS;
+        long timestampAndSequence = LAST_TIMESTAMP_AND_SEQUENCE.accumulateAndGet(start,
+                (last, candidate) -> Math.max(candidate, last + 1));
+        return of(timestampAndSequence);
+    }
+
+    /**
+     * The id for a millisecond timestamp shifted left by {@value #SEQUENCE_BITS} bits and or-ed with a sequence.
+     */
+    static UUID of(long timestampAndSequence) {
+        long epochMillis = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+        long mostSignificant = (epochMillis << 16) | 0x7000L | sequence;
+        long leastSignificant = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Parses the canonical 36-character form. Anything else, including the shortened forms
+     * {@link UUID#fromString} tolerates, is empty: no transaction can have that id.
+     */
+    public static Optional<UUID> parse(String value) {
+        if (value == null || value.length() != CANONICAL_LENGTH) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(value));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -2,8 +2,9 @@ package com.wex.purchasetransaction.transaction.repository;
 
 import com.wex.purchasetransaction.auth.repository.entity.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,8 +14,9 @@ import java.util.UUID;
 public class Transaction {
 
     @Id
-    @Column(length = 36)
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID id;
 
     @Column(nullable = false, length = 50)
     private String description;
@@ -22,8 +24,8 @@ public class Transaction {
     @Column(name = "transaction_date", nullable = false)
     private LocalDate transactionDate;
 
-    @Column(name = "amount_usd", nullable = false, precision = 10, scale = 2)
-    private BigDecimal amountUsd;
+    @Column(name = "amount_usd_cents", nullable = false)
+    private long amountUsdCents;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -33,20 +35,20 @@ public class Transaction {
     private User user;
 
     public Transaction() {
-        this.id = UUID.randomUUID().toString();
+        this.id = TimeOrderedUuid.next();
         this.createdAt = LocalDateTime.now();
     }
 
-    public Transaction(String description, LocalDate transactionDate, BigDecimal amountUsd, User user) {
+    public Transaction(String description, LocalDate transactionDate, long amountUsdCents, User user) {
         this();
         this.description = description;
         this.transactionDate = transactionDate;
-        this.amountUsd = amountUsd;
+        this.amountUsdCents = amountUsdCents;
         this.user = user;
     }
 
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
 
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
@@ -54,8 +56,8 @@ public class Transaction {
     public LocalDate getTransactionDate() { return transactionDate; }
     public void setTransactionDate(LocalDate transactionDate) { this.transactionDate = transactionDate; }
 
-    public BigDecimal getAmountUsd() { return amountUsd; }
-    public void setAmountUsd(BigDecimal amountUsd) { this.amountUsd = amountUsd; }
+    public long getAmountUsdCents() { return amountUsdCents; }
+    public void setAmountUsdCents(long amountUsdCents) { this.amountUsdCents = amountUsdCents; }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
@@ -0,0 +1,40 @@
+package com.wex.purchasetransaction.transaction.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Inserts transactions with a single JDBC batch statement, bypassing the persistence context.
+ * <p>
+ * Values are bound with the same JDBC types Hibernate uses for {@link Transaction}, so rows written here read
+ * back identically through {@link TransactionRepository}. Must be called inside a read-write transaction.
+ */
+@Repository
+public class TransactionBatchInserter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO purchase_transactions (id, user_id, description, transaction_date, amount_usd_cents, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransactionBatchInserter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(int userId, List<Transaction> transactions) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, transactions.size(), (statement, transaction) -> {
+            statement.setBytes(1, TimeOrderedUuid.toBytes(transaction.getId()));
+            statement.setInt(2, userId);
+            statement.setString(3, transaction.getDescription());
+            statement.setDate(4, Date.valueOf(transaction.getTransactionDate()));
+            statement.setLong(5, transaction.getAmountUsdCents());
+            statement.setTimestamp(6, Timestamp.valueOf(transaction.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.wex.purchasetransaction.transaction.repository;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of a bulk transaction file import. {@code rowsCommitted} is the number of data rows of the file
+ * whose outcome, created or rejected, has been committed; a resumed import skips that many rows.
+ */
+@Entity
+@Table(name = "transaction_imports")
+public class TransactionImport {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    @Column(nullable = false, length = 10)
+    private String format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "rows_committed", nullable = false)
+    private long rowsCommitted;
+
+    @Column(name = "created_count", nullable = false)
+    private long created;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejected;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public TransactionImport() {
+    }
+
+    public TransactionImport(String id, int userId, String format) {
+        this.id = id;
+        this.userId = userId;
+        this.format = format;
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = startedAt;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public int getUserId() { return userId; }
+    public void setUserId(int userId) { this.userId = userId; }
+
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public long getRowsCommitted() { return rowsCommitted; }
+    public void setRowsCommitted(long rowsCommitted) { this.rowsCommitted = rowsCommitted; }
+
+    public long getCreated() { return created; }
+    public void setCreated(long created) { this.created = created; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,14 @@
+package com.wex.purchasetransaction.transaction.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface TransactionImportRepository extends JpaRepository<TransactionImport, String> {
+
+    @Transactional(readOnly = true)
+    Optional<TransactionImport> findByIdAndUserId(String id, int userId);
+}
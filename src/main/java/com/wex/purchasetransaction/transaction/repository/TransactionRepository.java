@@ -1,11 +1,60 @@
 package com.wex.purchasetransaction.transaction.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, String> {
-    Optional<Transaction> findByIdAndUserId(String id, int userId);
+public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+
+    /**
+     * A user's transaction by id, read straight into a {@link TransactionView}. Nothing is attached to the
+     * persistence context, so there is no entity, {@code User} proxy or dirty-checking snapshot.
+     */
+    @Query("""
+            select new com.wex.purchasetransaction.transaction.repository.TransactionView(
+                t.id, t.description, t.transactionDate, t.amountUsdCents)
+            from Transaction t
+            where t.id = :id
+              and t.user.id = :userId
+            """)
+    @Transactional(readOnly = true)
+    Optional<TransactionView> findViewByIdAndUserId(@Param("id") UUID id, @Param("userId") int userId);
+
+    /**
+     * One page of a user's transactions in a date range, ordered by date then id, starting strictly after the
+     * {@code (afterDate, afterId)} key. {@code fromDate} should be the later of the range start and
+     * {@code afterDate}, so the index range scan begins at the cursor instead of skipping earlier rows. The cent
+     * amount bounds are optional.
+     */
+    @Query("""
+            select new com.wex.purchasetransaction.transaction.repository.TransactionView(
+                t.id, t.description, t.transactionDate, t.amountUsdCents)
+            from Transaction t
+            where t.user.id = :userId
+              and t.transactionDate between :fromDate and :toDate
+              and (t.transactionDate > :afterDate or (t.transactionDate = :afterDate and t.id > :afterId))
+              and (:minCents is null or t.amountUsdCents >= :minCents)
+              and (:maxCents is null or t.amountUsdCents <= :maxCents)
+            order by t.transactionDate, t.id
+            """)
+    @Transactional(readOnly = true)
+    List<TransactionView> findPage(
+            @Param("userId") int userId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") UUID afterId,
+            @Param("minCents") Long minCents,
+            @Param("maxCents") Long maxCents,
+            Limit limit
+    );
 }
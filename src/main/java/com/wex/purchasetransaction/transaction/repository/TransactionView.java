@@ -0,0 +1,20 @@
+package com.wex.purchasetransaction.transaction.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a {@link Transaction} used by bulk reads and single-transaction conversions, so rows
+ * are never attached to the persistence context.
+ */
+public record TransactionView(
+        String id,
+        String description,
+        LocalDate transactionDate,
+        long amountUsdCents
+) {
+
+    public TransactionView(UUID id, String description, LocalDate transactionDate, long amountUsdCents) {
+        this(id.toString(), description, transactionDate, amountUsdCents);
+    }
+}
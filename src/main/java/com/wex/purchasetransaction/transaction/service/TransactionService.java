@@ -3,22 +3,44 @@ package com.wex.purchasetransaction.transaction.service;
 import com.wex.purchasetransaction.auth.repository.UserRepository;
 import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
 import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.config.jfr.RepositoryCallEvent;
+import com.wex.purchasetransaction.config.properties.ConversionProperties;
+import com.wex.purchasetransaction.transaction.api.dto.CurrencyConversion;
 import com.wex.purchasetransaction.transaction.api.dto.TransactionCreatedResponse;
 import com.wex.purchasetransaction.transaction.api.dto.TransactionRequest;
 import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.money.Money;
+import com.wex.purchasetransaction.transaction.repository.TimeOrderedUuid;
 import com.wex.purchasetransaction.transaction.repository.Transaction;
 import com.wex.purchasetransaction.transaction.repository.TransactionRepository;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import com.wex.purchasetransaction.transaction.service.cache.RecentTransactionCache;
+import com.wex.purchasetransaction.transaction.service.write.TransactionWriteBatcher;
 import com.wex.purchasetransaction.transaction.treasury.ExchangeRateClient;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Service
+@Timed(value = "transaction.service", description = "TransactionService operations", histogram = true)
 public class TransactionService {
 
     private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
@@ -27,15 +49,25 @@ public class TransactionService {
     private final ExchangeRateClient exchangeRateClient;
     private final AuthenticatedUserProvider authenticatedUserProvider;
     private final UserRepository userRepository;
+    private final ConversionProperties conversionProperties;
+    private final TransactionWriteBatcher transactionWriteBatcher;
+    private final RecentTransactionCache recentTransactionCache;
 
-    public TransactionService(TransactionRepository transactionRepository, ExchangeRateClient exchangeRateClient, AuthenticatedUserProvider authenticatedUserProvider, UserRepository userRepository) {
+    public TransactionService(TransactionRepository transactionRepository, ExchangeRateClient exchangeRateClient, AuthenticatedUserProvider authenticatedUserProvider, UserRepository userRepository, ConversionProperties conversionProperties, TransactionWriteBatcher transactionWriteBatcher, RecentTransactionCache recentTransactionCache) {
         this.transactionRepository = transactionRepository;
         this.exchangeRateClient = exchangeRateClient;
         this.authenticatedUserProvider = authenticatedUserProvider;
         this.userRepository = userRepository;
+        this.conversionProperties = conversionProperties;
+        this.transactionWriteBatcher = transactionWriteBatcher;
+        this.recentTransactionCache = recentTransactionCache;
     }
 
-    @Transactional
+    /**
+     * Stores a transaction for the authenticated user. The insert is group-committed with concurrent requests
+     * by {@link TransactionWriteBatcher}, and this method returns once it is durable. The stored transaction is
+     * then added to {@link RecentTransactionCache}, which answers the conversions that usually follow.
+     */
     public TransactionCreatedResponse storeTransaction(TransactionRequest request) {
 
         AuthenticatedUser user = authenticatedUserProvider.get();
@@ -43,44 +75,150 @@ public class TransactionService {
         Transaction transaction = new Transaction(
                 request.description(),
                 request.transactionDate(),
-                request.purchaseAmountUsd().setScale(2, RoundingMode.HALF_EVEN),
+                Money.toCents(request.purchaseAmountUsd()),
                 userRepository.getReferenceById(user.id())
         );
 
-        Transaction saved = transactionRepository.save(transaction);
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Transaction saved = transactionWriteBatcher.write(transaction);
+        event.complete("TransactionWriteBatcher", "write", true);
+
+        recentTransactionCache.put(user.id(), saved);
 
         return new TransactionCreatedResponse(
-                saved.getId(),
+                saved.getId().toString(),
                 saved.getDescription(),
                 saved.getTransactionDate(),
-                saved.getAmountUsd()
+                Money.fromCents(saved.getAmountUsdCents())
         );
     }
 
     public ConvertedTransactionResponse retrieveConvertedTransaction(String id, String targetCurrency) {
         AuthenticatedUser user = authenticatedUserProvider.get();
 
-        Transaction transaction =
-                transactionRepository.findByIdAndUserId(id, user.id())
-                        .orElseThrow(() -> new EntityNotFoundException("Transaction not found"));
+        TransactionView transaction = findTransaction(id, user.id());
 
-        BigDecimal exchangeRate =
-                exchangeRateClient.getExchangeRate(targetCurrency, transaction.getTransactionDate());
+        ConversionRate exchangeRate =
+                exchangeRateClient.getExchangeRate(targetCurrency, transaction.transactionDate());
 
-        BigDecimal convertedAmount =
-                transaction.getAmountUsd()
-                        .multiply(exchangeRate)
-                        .setScale(2, RoundingMode.HALF_EVEN);
+        BigDecimal convertedAmount = convert(transaction.amountUsdCents(), exchangeRate);
 
         return new ConvertedTransactionResponse(
-                transaction.getId(),
-                transaction.getDescription(),
-                transaction.getTransactionDate(),
-                transaction.getAmountUsd(),
-                exchangeRate,
+                transaction.id(),
+                transaction.description(),
+                transaction.transactionDate(),
+                Money.fromCents(transaction.amountUsdCents()),
+                exchangeRate.value(),
                 convertedAmount,
                 targetCurrency
         );
     }
 
+    /**
+     * Converts one transaction into several currencies from a single transaction load. Rates that are not
+     * already cached are resolved concurrently on virtual threads, bounded by
+     * {@code transaction.conversion.max-concurrent-rate-lookups}.
+     */
+    public ConvertedTransactionResponse retrieveConvertedTransaction(String id, List<String> targetCurrencies) {
+        AuthenticatedUser user = authenticatedUserProvider.get();
+
+        TransactionView transaction = findTransaction(id, user.id());
+
+        Map<String, ConversionRate> rates = resolveRates(
+                new LinkedHashSet<>(targetCurrencies),
+                transaction.transactionDate()
+        );
+
+        List<CurrencyConversion> conversions = rates.entrySet()
+                .stream()
+                .map(rate -> new CurrencyConversion(
+                        rate.getKey(),
+                        rate.getValue().value(),
+                        convert(transaction.amountUsdCents(), rate.getValue())
+                ))
+                .toList();
+
+        return new ConvertedTransactionResponse(
+                transaction.id(),
+                transaction.description(),
+                transaction.transactionDate(),
+                Money.fromCents(transaction.amountUsdCents()),
+                conversions
+        );
+    }
+
+    private TransactionView findTransaction(String id, int userId) {
+        UUID uuid = TimeOrderedUuid.parse(id)
+                .orElseThrow(() -> new EntityNotFoundException("Transaction not found"));
+
+        Optional<TransactionView> cached = recentTransactionCache.get(uuid, userId);
+
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Optional<TransactionView> transaction = transactionRepository.findViewByIdAndUserId(uuid, userId);
+        event.complete("TransactionRepository", "findViewByIdAndUserId", transaction.isPresent());
+
+        return transaction.orElseThrow(() -> new EntityNotFoundException("Transaction not found"));
+    }
+
+    private Map<String, ConversionRate> resolveRates(LinkedHashSet<String> currencies, LocalDate transactionDate) {
+        Map<String, ConversionRate> rates = new LinkedHashMap<>();
+        Map<String, Future<ConversionRate>> pending = new LinkedHashMap<>();
+        Semaphore permits = new Semaphore(conversionProperties.getMaxConcurrentRateLookups());
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String currency : currencies) {
+                ConversionRate cached = exchangeRateClient.getCachedExchangeRate(currency, transactionDate);
+                rates.put(currency, cached);
+
+                if (cached == null) {
+                    pending.put(currency, executor.submit(() -> {
+                        if (mdc != null) {
+                            MDC.setContextMap(mdc);
+                        }
+                        permits.acquire();
+                        try {
+                            return exchangeRateClient.getExchangeRate(currency, transactionDate);
+                        } finally {
+                            permits.release();
+                            MDC.clear();
+                        }
+                    }));
+                }
+            }
+
+            log.debug("Resolving exchange rates [cached={}, pending={}]", rates.size() - pending.size(), pending.keySet());
+
+            for (Map.Entry<String, Future<ConversionRate>> entry : pending.entrySet()) {
+                rates.put(entry.getKey(), await(entry.getValue()));
+            }
+        }
+
+        return rates;
+    }
+
+    private static ConversionRate await(Future<ConversionRate> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while resolving exchange rates", ex);
+        }
+    }
+
+    private static BigDecimal convert(long amountUsdCents, ConversionRate exchangeRate) {
+        return Money.fromCents(exchangeRate.convert(amountUsdCents));
+    }
+
 }
@@ -0,0 +1,122 @@
+package com.wex.purchasetransaction.transaction.service.batch;
+
+import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
+import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.config.jfr.RepositoryCallEvent;
+import com.wex.purchasetransaction.config.properties.TransactionBatchProperties;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionBatchItemResult;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionBatchResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionRequest;
+import com.wex.purchasetransaction.transaction.money.Money;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.repository.TransactionBatchInserter;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Bulk counterpart of {@link com.wex.purchasetransaction.transaction.service.TransactionService#storeTransaction}
+ * for upstream systems that push many transactions at once.
+ * <p>
+ * Each item is validated independently; invalid items are reported and skipped. The valid ones are inserted
+ * atomically in one database transaction through {@link TransactionBatchInserter}, so the whole batch pays for a
+ * single commit.
+ */
+@Service
+@Timed(value = "transaction.batch", description = "Batch transaction ingest", histogram = true)
+public class TransactionBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionBatchService.class);
+
+    private final TransactionBatchInserter inserter;
+    private final AuthenticatedUserProvider authenticatedUserProvider;
+    private final Validator validator;
+    private final TransactionBatchProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionBatchService(
+            TransactionBatchInserter inserter,
+            AuthenticatedUserProvider authenticatedUserProvider,
+            Validator validator,
+            TransactionBatchProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.inserter = inserter;
+        this.authenticatedUserProvider = authenticatedUserProvider;
+        this.validator = validator;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public TransactionBatchResponse storeTransactions(List<TransactionRequest> requests) {
+        AuthenticatedUser user = authenticatedUserProvider.get();
+
+        List<TransactionBatchItemResult> results = new ArrayList<>(requests.size());
+        List<Transaction> accepted = new ArrayList<>(requests.size());
+
+        for (int index = 0; index < requests.size(); index++) {
+            TransactionRequest request = requests.get(index);
+            Map<String, String> errors = validate(request);
+
+            if (!errors.isEmpty()) {
+                results.add(TransactionBatchItemResult.rejected(index, errors));
+                continue;
+            }
+
+            Transaction transaction = new Transaction(
+                    request.description(),
+                    request.transactionDate(),
+                    Money.toCents(request.purchaseAmountUsd()),
+                    null
+            );
+            accepted.add(transaction);
+            results.add(TransactionBatchItemResult.created(index, transaction.getId().toString()));
+        }
+
+        if (!accepted.isEmpty()) {
+            insert(user.id(), accepted);
+        }
+
+        int rejected = requests.size() - accepted.size();
+        log.info("Transaction batch stored [received={}, created={}, rejected={}]", requests.size(), accepted.size(), rejected);
+
+        return new TransactionBatchResponse(accepted.size(), rejected, results);
+    }
+
+    private void insert(int userId, List<Transaction> transactions) {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < transactions.size(); from += chunkSize) {
+                List<Transaction> chunk = transactions.subList(from, Math.min(from + chunkSize, transactions.size()));
+
+                RepositoryCallEvent event = new RepositoryCallEvent();
+                event.begin();
+                inserter.insert(userId, chunk);
+                event.complete("TransactionBatchInserter", "insert", true);
+            }
+        });
+    }
+
+    private Map<String, String> validate(TransactionRequest request) {
+        if (request == null) {
+            return Map.of("transaction", "Transaction must not be null");
+        }
+
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+        Map<String, String> errors = new TreeMap<>();
+        violations.forEach(violation ->
+                errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+}
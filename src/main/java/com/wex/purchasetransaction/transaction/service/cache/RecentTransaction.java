@@ -0,0 +1,17 @@
+package com.wex.purchasetransaction.transaction.service.cache;
+
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Cached copy of a stored transaction, kept to primitives so an entry costs one small object plus its
+ * (interned) description.
+ */
+record RecentTransaction(int userId, String description, long epochDay, long amountUsdCents) {
+
+    TransactionView toView(UUID id) {
+        return new TransactionView(id, description, LocalDate.ofEpochDay(epochDay), amountUsdCents);
+    }
+}
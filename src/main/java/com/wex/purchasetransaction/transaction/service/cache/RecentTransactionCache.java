@@ -0,0 +1,114 @@
+package com.wex.purchasetransaction.transaction.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Interner;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.wex.purchasetransaction.config.properties.RecentTransactionCacheProperties;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transactions stored through the API in the last few minutes, keyed by id.
+ * <p>
+ * Clients usually convert a transaction into several currencies shortly after creating it. Each new transaction
+ * is written through to this cache once it is durable, so those conversions are answered without a trip to
+ * SQLite. Entries hold only primitive fields and an interned description, never the {@link Transaction} entity,
+ * and are evicted by {@code transaction.recent-cache.maximum-size} and {@code expire-after-write}.
+ * <p>
+ * A cached transaction is only returned to the user who owns it. Any other caller gets a miss and falls through
+ * to the database lookup, which enforces ownership the same way.
+ */
+@Component
+public class RecentTransactionCache {
+
+    public static final String CACHE_NAME = "recentTransactions";
+
+    private final Cache<UUID, RecentTransaction> cache;
+    private final Interner<String> descriptions = Interner.newWeakInterner();
+    private final boolean enabled;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public RecentTransactionCache(RecentTransactionCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    RecentTransactionCache(RecentTransactionCacheProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .ticker(ticker)
+                .build();
+
+        this.hits = Counter.builder("transaction.recent.cache.requests")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("transaction.recent.cache.requests")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("transaction.recent.cache.size", cache, Cache::estimatedSize)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Remembers a transaction {@code userId} has just stored. Must only be called once the insert is durable.
+     */
+    public void put(int userId, Transaction transaction) {
+        if (!enabled) {
+            return;
+        }
+
+        cache.put(transaction.getId(), new RecentTransaction(
+                userId,
+                descriptions.intern(transaction.getDescription()),
+                transaction.getTransactionDate().toEpochDay(),
+                transaction.getAmountUsdCents()
+        ));
+    }
+
+    /**
+     * The cached transaction {@code id}, if it is present and belongs to {@code userId}.
+     */
+    public Optional<TransactionView> get(UUID id, int userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        RecentTransaction cached = cache.getIfPresent(id);
+
+        if (cached == null || cached.userId() != userId) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(cached.toView(id));
+    }
+
+    public long hitCount() {
+        return (long) hits.count();
+    }
+
+    public long missCount() {
+        return (long) misses.count();
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,15 @@
+package com.wex.purchasetransaction.transaction.service.export;
+
+import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes converted transactions one row at a time to an underlying writer.
+ */
+interface ConvertedTransactionWriter {
+
+    void write(ConvertedTransactionResponse row) throws IOException;
+
+    void flush() throws IOException;
+}
@@ -0,0 +1,74 @@
+package com.wex.purchasetransaction.transaction.service.export;
+
+import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+/**
+ * Writes RFC 4180 CSV with a header row. Rows without an exchange rate leave the rate and
+ * converted amount columns empty.
+ */
+class CsvConvertedTransactionWriter implements ConvertedTransactionWriter {
+
+    static final String HEADER =
+            "id,description,transactionDate,purchaseAmountUsd,exchangeRate,convertedAmount,targetCurrency";
+
+    private final Writer writer;
+
+    CsvConvertedTransactionWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(ConvertedTransactionResponse row) throws IOException {
+        writer.write(row.id());
+        writer.write(',');
+        writeEscaped(row.description());
+        writer.write(',');
+        writer.write(row.transactionDate().toString());
+        writer.write(',');
+        writeAmount(row.purchaseAmountUsd());
+        writer.write(',');
+        writeAmount(row.exchangeRate());
+        writer.write(',');
+        writeAmount(row.convertedAmount());
+        writer.write(',');
+        writeEscaped(row.targetCurrency());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeAmount(BigDecimal amount) throws IOException {
+        if (amount != null) {
+            writer.write(amount.toPlainString());
+        }
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = value.indexOf(',') >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
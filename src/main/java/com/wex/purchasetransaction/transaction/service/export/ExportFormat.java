@@ -0,0 +1,35 @@
+package com.wex.purchasetransaction.transaction.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Output formats supported by the converted transaction export.
+ */
+public enum ExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() { return mediaType; }
+
+    public String getExtension() { return extension; }
+
+    ConvertedTransactionWriter open(Writer writer, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonConvertedTransactionWriter(writer, objectMapper);
+            case CSV -> new CsvConvertedTransactionWriter(writer);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.wex.purchasetransaction.transaction.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes one JSON object per line. Rows are serialized straight into the underlying writer;
+ * flushing is left to the caller so rows are not pushed to the socket one by one.
+ */
+class NdjsonConvertedTransactionWriter implements ConvertedTransactionWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter rowWriter;
+
+    NdjsonConvertedTransactionWriter(Writer writer, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory()
+                .createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.rowWriter = objectMapper
+                .writerFor(ConvertedTransactionResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(ConvertedTransactionResponse row) throws IOException {
+        rowWriter.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,132 @@
+package com.wex.purchasetransaction.transaction.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
+import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.money.Money;
+import com.wex.purchasetransaction.transaction.repository.TransactionRepository;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import com.wex.purchasetransaction.transaction.treasury.ExchangeRateClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Streams every transaction of the authenticated user in a date range, converted to one currency.
+ * <p>
+ * Every rate the range needs is resolved once, before the response starts, so Treasury is queried once per
+ * export and a failure is reported as a normal error response. Rows are then read in keyset-ordered pages of
+ * {@value #PAGE_SIZE}, each in its own short read-only transaction, and written out as they are read. No
+ * connection is held while the client downloads, and memory use does not grow with the number of rows.
+ * Transactions with no rate in the lookup window are still exported, with empty rate and converted amount.
+ */
+@Service
+public class TransactionExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionExportService.class);
+
+    static final int PAGE_SIZE = 500;
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final TransactionRepository transactionRepository;
+    private final ExchangeRateClient exchangeRateClient;
+    private final AuthenticatedUserProvider authenticatedUserProvider;
+    private final ObjectMapper objectMapper;
+
+    public TransactionExportService(
+            TransactionRepository transactionRepository,
+            ExchangeRateClient exchangeRateClient,
+            AuthenticatedUserProvider authenticatedUserProvider,
+            ObjectMapper objectMapper) {
+        this.transactionRepository = transactionRepository;
+        this.exchangeRateClient = exchangeRateClient;
+        this.authenticatedUserProvider = authenticatedUserProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Validates the request, resolves the user and the rates on the calling thread, then returns a body that
+     * writes the rows when the response is written.
+     */
+    public StreamingResponseBody exportConvertedTransactions(
+            LocalDate from,
+            LocalDate to,
+            String targetCurrency,
+            ExportFormat format) {
+
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+
+        AuthenticatedUser user = authenticatedUserProvider.get();
+        Function<LocalDate, ConversionRate> rates = exchangeRateClient.getExchangeRates(targetCurrency, from, to);
+
+        return outputStream -> export(user.id(), from, to, targetCurrency, rates, format, outputStream);
+    }
+
+    void export(
+            int userId,
+            LocalDate from,
+            LocalDate to,
+            String targetCurrency,
+            Function<LocalDate, ConversionRate> rates,
+            ExportFormat format,
+            OutputStream outputStream) throws IOException {
+
+        log.info("Export started [from={}, to={}, targetCurrency={}, format={}]", from, to, targetCurrency, format);
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ConvertedTransactionWriter rowWriter = format.open(writer, objectMapper);
+
+        LocalDate afterDate = from;
+        UUID afterId = FIRST_ID;
+        long rows = 0;
+        List<TransactionView> page;
+
+        do {
+            page = transactionRepository.findPage(
+                    userId, afterDate, to, afterDate, afterId, null, null, Limit.of(PAGE_SIZE)
+            );
+
+            for (TransactionView transaction : page) {
+                ConversionRate rate = rates.apply(transaction.transactionDate());
+
+                rowWriter.write(new ConvertedTransactionResponse(
+                        transaction.id(),
+                        transaction.description(),
+                        transaction.transactionDate(),
+                        Money.fromCents(transaction.amountUsdCents()),
+                        rate == null ? null : rate.value(),
+                        rate == null ? null : Money.fromCents(rate.convert(transaction.amountUsdCents())),
+                        targetCurrency
+                ));
+            }
+
+            if (!page.isEmpty()) {
+                TransactionView last = page.getLast();
+                afterDate = last.transactionDate();
+                afterId = UUID.fromString(last.id());
+                rows += page.size();
+            }
+            rowWriter.flush();
+        } while (page.size() == PAGE_SIZE);
+
+        log.info("Export finished [rows={}, targetCurrency={}]", rows, targetCurrency);
+    }
+}
@@ -0,0 +1,229 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads RFC 4180 CSV with a header row. Columns are matched by header name, so the column order is free and
+ * extra columns are ignored; a converted transaction export can be imported as is. Quoted fields may contain
+ * commas, quotes and line breaks. Empty lines are skipped. A record longer than {@code maxRecordLength}
+ * characters is read to its end without being kept and reported as a malformed row.
+ */
+class CsvTransactionRowReader implements TransactionRowReader {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int END = -1;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final StringBuilder field = new StringBuilder();
+    private final int descriptionColumn;
+    private final int transactionDateColumn;
+    private final int purchaseAmountUsdColumn;
+
+    private int pending = NONE;
+    private int recordLength;
+    private long number;
+
+    /**
+     * Reads the header row.
+     *
+     * @throws InvalidRequestException if the input is empty or a required column is missing
+     */
+    CsvTransactionRowReader(Reader reader, int maxRecordLength) throws IOException {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+
+        List<String> header;
+        try {
+            header = readRecord();
+        } catch (MalformedRecordException e) {
+            throw new InvalidRequestException("CSV header is malformed: " + e.getMessage());
+        }
+        if (header == null) {
+            throw new InvalidRequestException("CSV import is empty; a header row is required");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == BYTE_ORDER_MARK) {
+                name = name.substring(1);
+            }
+            columns.putIfAbsent(name, i);
+        }
+
+        this.descriptionColumn = column(columns, ImportRow.DESCRIPTION);
+        this.transactionDateColumn = column(columns, ImportRow.TRANSACTION_DATE);
+        this.purchaseAmountUsdColumn = column(columns, ImportRow.PURCHASE_AMOUNT_USD);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> record;
+        try {
+            record = readRecord();
+        } catch (MalformedRecordException e) {
+            return ImportRow.malformed(++number, e.getMessage());
+        }
+
+        if (record == null) {
+            return null;
+        }
+
+        number++;
+        return ImportRow.parse(
+                number,
+                value(record, descriptionColumn),
+                value(record, transactionDateColumn),
+                value(record, purchaseAmountUsdColumn)
+        );
+    }
+
+    private static int column(Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            throw new InvalidRequestException("CSV header must contain a '%s' column".formatted(name));
+        }
+        return index;
+    }
+
+    private static String value(List<String> record, int column) {
+        return column < record.size() ? record.get(column) : null;
+    }
+
+    /**
+     * The next non-empty record, or {@code null} at the end of the input.
+     */
+    private List<String> readRecord() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == END) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                skipLineFeedAfter(c);
+                continue;
+            }
+
+            unread(c);
+            return readFields();
+        }
+    }
+
+    private List<String> readFields() throws IOException {
+        List<String> record = new ArrayList<>();
+        recordLength = 0;
+
+        while (true) {
+            field.setLength(0);
+            int c = read();
+
+            if (c == '"') {
+                c = readQuoted();
+            } else {
+                while (c != ',' && c != '\r' && c != '\n' && c != END) {
+                    append((char) c);
+                    c = read();
+                }
+            }
+
+            if (recordLength <= maxRecordLength) {
+                record.add(field.toString());
+            }
+
+            if (c == ',') {
+                recordLength++;
+                continue;
+            }
+            skipLineFeedAfter(c);
+
+            if (recordLength > maxRecordLength) {
+                throw new MalformedRecordException(ImportRow.tooLongMessage(maxRecordLength));
+            }
+            return record;
+        }
+    }
+
+    /**
+     * Appends to the current field while the record is within {@code maxRecordLength}; past it, characters are
+     * only counted so the rest of the record is consumed without being kept.
+     */
+    private void append(char c) {
+        if (++recordLength <= maxRecordLength) {
+            field.append(c);
+        }
+    }
+
+    /**
+     * Reads a quoted field up to its closing quote and returns the character following it.
+     */
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == END) {
+                skipLineFeedAfter(c);
+                throw new MalformedRecordException("Unterminated quoted field");
+            }
+            if (c != '"') {
+                append((char) c);
+                continue;
+            }
+
+            int next = read();
+            if (next == '"') {
+                append('"');
+                continue;
+            }
+            if (next == ',' || next == '\r' || next == '\n' || next == END) {
+                return next;
+            }
+
+            skipRestOfRecord(next);
+            throw new MalformedRecordException("Unexpected character after closing quote");
+        }
+    }
+
+    private void skipRestOfRecord(int c) throws IOException {
+        while (c != '\r' && c != '\n' && c != END) {
+            c = read();
+        }
+        skipLineFeedAfter(c);
+    }
+
+    private void skipLineFeedAfter(int c) throws IOException {
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                unread(next);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+
+    private static class MalformedRecordException extends IOException {
+
+        MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+}
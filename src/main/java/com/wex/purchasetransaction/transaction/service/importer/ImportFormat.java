@@ -0,0 +1,52 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Input formats supported by the transaction file import.
+ */
+public enum ImportFormat {
+
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() { return extension; }
+
+    /**
+     * The format whose extension the file name ends with, ignoring case.
+     */
+    public static Optional<ImportFormat> fromFileName(String fileName) {
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        for (ImportFormat format : values()) {
+            if (lower.endsWith("." + format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param maxRecordLength longest record, in characters, read before the row is rejected as malformed
+     */
+    TransactionRowReader open(BufferedReader reader, ObjectMapper objectMapper, int maxRecordLength) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonTransactionRowReader(reader, objectMapper, maxRecordLength);
+            case CSV -> new CsvTransactionRowReader(reader, maxRecordLength);
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.wex.purchasetransaction.transaction.api.dto.TransactionRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One data row of an import file, numbered from 1. {@code errors} holds the fields that could not be parsed;
+ * {@code request} holds whatever could, and is bean-validated separately.
+ */
+record ImportRow(long number, TransactionRequest request, Map<String, String> errors) {
+
+    static final String DESCRIPTION = "description";
+    static final String TRANSACTION_DATE = "transactionDate";
+    static final String PURCHASE_AMOUNT_USD = "purchaseAmountUsd";
+
+    static ImportRow malformed(long number, String error) {
+        return new ImportRow(number, null, Map.of("row", error));
+    }
+
+    static ImportRow tooLong(long number, int maxRecordLength) {
+        return malformed(number, tooLongMessage(maxRecordLength));
+    }
+
+    static String tooLongMessage(int maxRecordLength) {
+        return "Row exceeds %d characters".formatted(maxRecordLength);
+    }
+
+    /**
+     * Parses the text of each field. A missing or blank date or amount is left {@code null} for validation to
+     * report, the same way a missing JSON property is on the single-transaction endpoint.
+     */
+    static ImportRow parse(long number, String description, String transactionDate, String purchaseAmountUsd) {
+        Map<String, String> errors = new TreeMap<>();
+        LocalDate date = null;
+        BigDecimal amount = null;
+
+        if (transactionDate != null && !transactionDate.isBlank()) {
+            try {
+                date = LocalDate.parse(transactionDate.trim());
+            } catch (DateTimeParseException e) {
+                errors.put(TRANSACTION_DATE, "Transaction date must be an ISO date (yyyy-MM-dd)");
+            }
+        }
+
+        if (purchaseAmountUsd != null && !purchaseAmountUsd.isBlank()) {
+            try {
+                amount = new BigDecimal(purchaseAmountUsd.trim());
+            } catch (NumberFormatException e) {
+                errors.put(PURCHASE_AMOUNT_USD, "Purchase amount must be a decimal number");
+            }
+        }
+
+        return new ImportRow(number, new TransactionRequest(description, date, amount), errors);
+    }
+}
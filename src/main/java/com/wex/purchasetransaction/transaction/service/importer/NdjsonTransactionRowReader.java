@@ -0,0 +1,106 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads one JSON object per line, with the same property names as a single-transaction request. Blank lines
+ * are skipped and unknown properties ignored. Numbers are read as exact decimals. A line longer than
+ * {@code maxRecordLength} characters is skipped to its end without being kept and reported as a malformed row.
+ */
+class NdjsonTransactionRowReader implements TransactionRowReader {
+
+    private static final int END = -1;
+
+    private final BufferedReader reader;
+    private final ObjectReader jsonReader;
+    private final int maxRecordLength;
+    private final StringBuilder line = new StringBuilder();
+    private boolean lineTooLong;
+    private long number;
+
+    NdjsonTransactionRowReader(BufferedReader reader, ObjectMapper objectMapper, int maxRecordLength) {
+        this.reader = reader;
+        this.jsonReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        do {
+            text = readLine();
+            if (text == null) {
+                return null;
+            }
+        } while (!lineTooLong && text.isBlank());
+
+        number++;
+
+        if (lineTooLong) {
+            return ImportRow.tooLong(number, maxRecordLength);
+        }
+
+        JsonNode node;
+        try {
+            node = jsonReader.readTree(text);
+        } catch (JsonProcessingException e) {
+            return ImportRow.malformed(number, "Malformed JSON");
+        }
+
+        if (!node.isObject()) {
+            return ImportRow.malformed(number, "Row must be a JSON object");
+        }
+
+        return ImportRow.parse(
+                number,
+                text(node, ImportRow.DESCRIPTION),
+                text(node, ImportRow.TRANSACTION_DATE),
+                text(node, ImportRow.PURCHASE_AMOUNT_USD)
+        );
+    }
+
+    /**
+     * Reads the next line, terminated like {@link BufferedReader#readLine()}, keeping at most
+     * {@code maxRecordLength} characters of it.
+     *
+     * @return the line, or {@code null} at the end of the input
+     */
+    private String readLine() throws IOException {
+        line.setLength(0);
+        lineTooLong = false;
+
+        int c = reader.read();
+        if (c == END) {
+            return null;
+        }
+
+        while (c != '\n' && c != '\r' && c != END) {
+            if (line.length() < maxRecordLength) {
+                line.append((char) c);
+            } else {
+                lineTooLong = true;
+            }
+            c = reader.read();
+        }
+
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+        return line.toString();
+    }
+
+    private static String text(JsonNode node, String property) {
+        JsonNode value = node.get(property);
+        return value == null || value.isNull() || value.isContainerNode() ? null : value.asText();
+    }
+}
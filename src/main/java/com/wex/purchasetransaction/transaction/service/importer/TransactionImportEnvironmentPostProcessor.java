@@ -0,0 +1,32 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Turns a startup with {@code transaction.import.file} set into a plain command-line run: no web server, no
+ * scheduled jobs, no Treasury sync and no cache warm-up, so only the {@link TransactionImportRunner} does work
+ * before the application exits.
+ */
+public class TransactionImportEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE_NAME = "transactionImportCommandLine";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.containsProperty("transaction.import.file")) {
+            return;
+        }
+
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(
+                "spring.main.web-application-type", "none",
+                "scheduling.enabled", "false",
+                "treasury.exchange-rate.sync.enabled", "false",
+                "treasury.exchange-rate.cache.warm-up.currencies", ""
+        )));
+    }
+}
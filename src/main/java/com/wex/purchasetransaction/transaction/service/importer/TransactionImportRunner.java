@@ -0,0 +1,103 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.wex.purchasetransaction.auth.repository.UserRepository;
+import com.wex.purchasetransaction.auth.repository.entity.User;
+import com.wex.purchasetransaction.config.properties.TransactionImportProperties;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionImportResponse;
+import com.wex.purchasetransaction.transaction.repository.TransactionImport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Command-line import: when {@code transaction.import.file} is set, imports that file on startup and exits.
+ * Running the same command again after an interruption resumes the import, since the default import id is
+ * derived from the file's path and size.
+ * <p>
+ * {@link TransactionImportEnvironmentPostProcessor} keeps the web server and scheduled jobs from starting, and
+ * the application's {@code main} closes the context once the runner returns. The exit status is reported
+ * through {@link ExitCodeGenerator}: {@code 0} for a completed import, {@code 1} otherwise. A failed import
+ * fails startup, so the process also exits with a non-zero status.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transaction.import", name = "file")
+public class TransactionImportRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportRunner.class);
+
+    private final TransactionImportService importService;
+    private final UserRepository userRepository;
+    private final TransactionImportProperties properties;
+
+    private volatile int exitCode = 1;
+
+    public TransactionImportRunner(
+            TransactionImportService importService,
+            UserRepository userRepository,
+            TransactionImportProperties properties) {
+        this.importService = importService;
+        this.userRepository = userRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path file = Path.of(properties.getFile()).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Import file not found: " + file);
+        }
+
+        if (properties.getUser() == null || properties.getUser().isBlank()) {
+            throw new IllegalArgumentException("transaction.import.user is required to import a file");
+        }
+        User user = userRepository.findByUsername(properties.getUser())
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + properties.getUser()));
+
+        ImportFormat format = resolveFormat(file);
+        String importId = properties.getId() != null ? properties.getId() : defaultImportId(file);
+
+        log.info("Importing transaction file [file={}, user={}, format={}, importId={}]", file, user.getUsername(), format, importId);
+
+        TransactionImportResponse result;
+        try (InputStream input = Files.newInputStream(file)) {
+            result = importService.importTransactions(importId, user.getId(), format, input);
+        }
+
+        log.info("Transaction file imported [importId={}, status={}, rows={}, created={}, rejected={}, rowsPerSecond={}]",
+                result.importId(), result.status(), result.rowsRead(), result.created(), result.rejected(), result.rowsPerSecond());
+        result.errors().forEach(error -> log.info("Rejected row [row={}, errors={}]", error.row(), error.errors()));
+
+        exitCode = result.status() == TransactionImport.Status.COMPLETED ? 0 : 1;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private ImportFormat resolveFormat(Path file) {
+        if (properties.getFormat() != null) {
+            return ImportFormat.valueOf(properties.getFormat().toUpperCase(Locale.ROOT));
+        }
+        return ImportFormat.fromFileName(file.getFileName().toString())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Cannot infer the format of %s; set transaction.import.format".formatted(file)));
+    }
+
+    static String defaultImportId(Path file) throws IOException {
+        String key = file + ":" + Files.size(file);
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
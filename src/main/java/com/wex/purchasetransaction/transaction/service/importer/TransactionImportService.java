@@ -0,0 +1,306 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
+import com.wex.purchasetransaction.config.jfr.RepositoryCallEvent;
+import com.wex.purchasetransaction.config.properties.TransactionImportProperties;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionImportResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionImportRowError;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionRequest;
+import com.wex.purchasetransaction.transaction.money.Money;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.repository.TransactionBatchInserter;
+import com.wex.purchasetransaction.transaction.repository.TransactionImport;
+import com.wex.purchasetransaction.transaction.repository.TransactionImportRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Imports transaction files of any size with constant memory.
+ * <p>
+ * The file is parsed one row at a time and each row is validated with the same constraints as
+ * {@link TransactionRequest}; invalid rows are counted, the first few described, and skipped. Valid rows are
+ * inserted through {@link TransactionBatchInserter} in chunks, and every chunk commits together with the
+ * import's checkpoint in {@code transaction_imports}. Importing the same file again under the same import id
+ * therefore skips the rows already committed and continues where an interrupted attempt stopped, without
+ * duplicating any transaction. A completed import is not repeated.
+ */
+@Service
+public class TransactionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportService.class);
+
+    private static final int READ_BUFFER_CHARS = 64 * 1024;
+
+    private final TransactionBatchInserter inserter;
+    private final TransactionImportRepository importRepository;
+    private final AuthenticatedUserProvider authenticatedUserProvider;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> runningImports = ConcurrentHashMap.newKeySet();
+    private final Counter createdRows;
+    private final Counter rejectedRows;
+
+    public TransactionImportService(
+            TransactionBatchInserter inserter,
+            TransactionImportRepository importRepository,
+            AuthenticatedUserProvider authenticatedUserProvider,
+            Validator validator,
+            ObjectMapper objectMapper,
+            TransactionImportProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.inserter = inserter;
+        this.importRepository = importRepository;
+        this.authenticatedUserProvider = authenticatedUserProvider;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.createdRows = rowCounter(meterRegistry, "created");
+        this.rejectedRows = rowCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * Imports {@code input} for the authenticated user.
+     */
+    public TransactionImportResponse importTransactions(String importId, ImportFormat format, InputStream input) throws IOException {
+        return importTransactions(importId, authenticatedUserProvider.get().id(), format, input);
+    }
+
+    /**
+     * Imports {@code input} for {@code userId}, resuming the import's checkpoint if it has one.
+     *
+     * @throws InvalidRequestException if the file has no usable CSV header, or the import id is running,
+     *                                  belongs to another user or was started with another format
+     */
+    public TransactionImportResponse importTransactions(String importId, int userId, ImportFormat format, InputStream input) throws IOException {
+        if (!runningImports.add(importId)) {
+            throw new InvalidRequestException("Import '%s' is already running".formatted(importId));
+        }
+
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_CHARS);
+            TransactionRowReader rows = format.open(reader, objectMapper, properties.getMaxRecordLength());
+
+            TransactionImport checkpoint = importRepository.findById(importId)
+                    .map(existing -> resumable(existing, userId, format))
+                    .orElseGet(() -> new TransactionImport(importId, userId, format.name()));
+
+            if (checkpoint.getStatus() == TransactionImport.Status.COMPLETED) {
+                log.info("Transaction import already completed [importId={}, rows={}]", importId, checkpoint.getRowsCommitted());
+                return toResponse(checkpoint);
+            }
+
+            return run(checkpoint, rows);
+        } finally {
+            runningImports.remove(importId);
+        }
+    }
+
+    /**
+     * The latest checkpoint of one of the authenticated user's imports.
+     */
+    public TransactionImportResponse findImport(String importId) {
+        int userId = authenticatedUserProvider.get().id();
+        return importRepository.findByIdAndUserId(importId, userId)
+                .map(TransactionImportService::toResponse)
+                .orElseThrow(() -> new NoSuchElementException("Import not found: " + importId));
+    }
+
+    private TransactionImportResponse run(TransactionImport checkpoint, TransactionRowReader rows) throws IOException {
+        String importId = checkpoint.getId();
+        int userId = checkpoint.getUserId();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        long progressInterval = Math.max(1, properties.getProgressInterval());
+        long resumeFrom = checkpoint.getRowsCommitted();
+
+        checkpoint.setStatus(TransactionImport.Status.RUNNING);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        importRepository.save(checkpoint);
+
+        log.info("Transaction import started [importId={}, userId={}, format={}, resumeFromRow={}]",
+                importId, userId, checkpoint.getFormat(), resumeFrom);
+
+        long startedNanos = System.nanoTime();
+        long rowsRead = 0;
+        long created = checkpoint.getCreated();
+        long rejected = checkpoint.getRejected();
+        List<Transaction> chunk = new ArrayList<>(chunkSize);
+        List<TransactionImportRowError> errors = new ArrayList<>();
+
+        try {
+            ImportRow row;
+            while ((row = rows.next()) != null) {
+                rowsRead = row.number();
+                if (rowsRead <= resumeFrom) {
+                    continue;
+                }
+
+                Map<String, String> rowErrors = validate(row);
+                if (rowErrors.isEmpty()) {
+                    chunk.add(toTransaction(row.request()));
+                    created++;
+                } else {
+                    rejected++;
+                    rejectedRows.increment();
+                    if (errors.size() < properties.getMaxReportedErrors()) {
+                        errors.add(new TransactionImportRowError(rowsRead, rowErrors));
+                    }
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    commit(checkpoint, chunk, rowsRead, created, rejected);
+                }
+
+                if ((rowsRead - resumeFrom) % progressInterval == 0) {
+                    log.info("Transaction import progress [importId={}, rows={}, created={}, rejected={}, rowsPerSecond={}]",
+                            importId, rowsRead, created, rejected, rowsPerSecond(rowsRead - resumeFrom, System.nanoTime() - startedNanos));
+                }
+            }
+
+            checkpoint.setStatus(TransactionImport.Status.COMPLETED);
+            commit(checkpoint, chunk, Math.max(rowsRead, resumeFrom), created, rejected);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Transaction import failed [importId={}, committedRows={}]", importId, checkpoint.getRowsCommitted(), e);
+            markFailed(importId);
+            throw e;
+        }
+
+        long elapsedNanos = System.nanoTime() - startedNanos;
+        long processed = Math.max(0, rowsRead - resumeFrom);
+        long rowsPerSecond = rowsPerSecond(processed, elapsedNanos);
+
+        log.info("Transaction import completed [importId={}, rows={}, created={}, rejected={}, resumedFromRow={}, durationMs={}, rowsPerSecond={}]",
+                importId, checkpoint.getRowsCommitted(), created, rejected, resumeFrom, Duration.ofNanos(elapsedNanos).toMillis(), rowsPerSecond);
+
+        return new TransactionImportResponse(
+                importId,
+                checkpoint.getStatus(),
+                checkpoint.getRowsCommitted(),
+                created,
+                rejected,
+                resumeFrom,
+                Duration.ofNanos(elapsedNanos).toMillis(),
+                rowsPerSecond,
+                errors
+        );
+    }
+
+    /**
+     * Inserts the chunk and advances the checkpoint past {@code rowsRead} in one database transaction, then
+     * clears the chunk.
+     */
+    private void commit(TransactionImport checkpoint, List<Transaction> chunk, long rowsRead, long created, long rejected) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!chunk.isEmpty()) {
+                RepositoryCallEvent event = new RepositoryCallEvent();
+                event.begin();
+                inserter.insert(checkpoint.getUserId(), chunk);
+                event.complete("TransactionBatchInserter", "insert", true);
+            }
+
+            checkpoint.setRowsCommitted(rowsRead);
+            checkpoint.setCreated(created);
+            checkpoint.setRejected(rejected);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            importRepository.save(checkpoint);
+        });
+
+        createdRows.increment(chunk.size());
+        chunk.clear();
+    }
+
+    private void markFailed(String importId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> importRepository.findById(importId).ifPresent(stored -> {
+                stored.setStatus(TransactionImport.Status.FAILED);
+                stored.setUpdatedAt(LocalDateTime.now());
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Could not mark transaction import failed [importId={}]", importId, e);
+        }
+    }
+
+    private static TransactionImport resumable(TransactionImport existing, int userId, ImportFormat format) {
+        if (existing.getUserId() != userId) {
+            throw new InvalidRequestException("Import id '%s' is already in use".formatted(existing.getId()));
+        }
+        if (!existing.getFormat().equals(format.name())) {
+            throw new InvalidRequestException("Import '%s' was started as %s".formatted(existing.getId(), existing.getFormat()));
+        }
+        return existing;
+    }
+
+    private Map<String, String> validate(ImportRow row) {
+        if (row.request() == null) {
+            return row.errors();
+        }
+
+        Map<String, String> errors = new TreeMap<>(row.errors());
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(row.request());
+        violations.forEach(violation ->
+                errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    private static Transaction toTransaction(TransactionRequest request) {
+        return new Transaction(
+                request.description(),
+                request.transactionDate(),
+                Money.toCents(request.purchaseAmountUsd()),
+                null
+        );
+    }
+
+    private static TransactionImportResponse toResponse(TransactionImport checkpoint) {
+        long durationMs = Duration.between(checkpoint.getStartedAt(), checkpoint.getUpdatedAt()).toMillis();
+        return new TransactionImportResponse(
+                checkpoint.getId(),
+                checkpoint.getStatus(),
+                checkpoint.getRowsCommitted(),
+                checkpoint.getCreated(),
+                checkpoint.getRejected(),
+                0,
+                durationMs,
+                rowsPerSecond(checkpoint.getRowsCommitted(), Duration.ofMillis(durationMs).toNanos()),
+                List.of()
+        );
+    }
+
+    private static long rowsPerSecond(long rows, long elapsedNanos) {
+        return elapsedNanos <= 0 ? rows : rows * 1_000_000_000L / elapsedNanos;
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("transaction.import.rows")
+                .description("Rows processed by transaction file imports")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import java.io.IOException;
+
+/**
+ * Reads an import file one data row at a time. Rows that cannot be parsed are still returned, numbered and
+ * carrying their errors, so a bad row never aborts the import.
+ */
+interface TransactionRowReader {
+
+    /**
+     * The next row, or {@code null} at the end of the input.
+     */
+    ImportRow next() throws IOException;
+}
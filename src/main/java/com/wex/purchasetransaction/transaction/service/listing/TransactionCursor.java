@@ -0,0 +1,51 @@
+package com.wex.purchasetransaction.transaction.service.listing;
+
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import com.wex.purchasetransaction.transaction.repository.TimeOrderedUuid;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a transaction listing: the {@code (transactionDate, id)} key of the last row returned. Clients
+ * receive it as an opaque URL-safe token.
+ */
+record TransactionCursor(LocalDate transactionDate, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Positioned before every transaction dated {@code date} or later; real ids are never all zeros.
+     */
+    static TransactionCursor before(LocalDate date) {
+        return new TransactionCursor(date, new UUID(0, 0));
+    }
+
+    String encode() {
+        String key = transactionDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidRequestException if {@code token} was not produced by {@link #encode()}
+     */
+    static TransactionCursor decode(String token) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = key.indexOf(SEPARATOR);
+            if (separator > 0) {
+                LocalDate date = LocalDate.parse(key.substring(0, separator));
+                UUID id = TimeOrderedUuid.parse(key.substring(separator + 1)).orElse(null);
+                if (id != null) {
+                    return new TransactionCursor(date, id);
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // reported below
+        }
+        throw new InvalidRequestException("Invalid cursor");
+    }
+}
@@ -0,0 +1,110 @@
+package com.wex.purchasetransaction.transaction.service.listing;
+
+import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
+import com.wex.purchasetransaction.config.jfr.RepositoryCallEvent;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionPageResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionSummary;
+import com.wex.purchasetransaction.transaction.money.Money;
+import com.wex.purchasetransaction.transaction.repository.TransactionRepository;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lists the authenticated user's transactions page by page, ordered by transaction date then id.
+ * <p>
+ * Pages are keyset-paginated: each one starts strictly after the {@code (transactionDate, id)} of the previous
+ * page's last row, found by a range scan of the {@code (user_id, transaction_date, id)} index. A page costs the
+ * same however deep into the listing it is, and rows inserted meanwhile never shift or repeat the rows of later
+ * pages. Rows are read as {@link TransactionView} projections, never as managed entities.
+ */
+@Service
+@Timed(value = "transaction.list", description = "Transaction listing pages", histogram = true)
+public class TransactionListingService {
+
+    static final LocalDate EARLIEST_DATE = LocalDate.of(1, 1, 1);
+    static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+
+    private final TransactionRepository transactionRepository;
+    private final AuthenticatedUserProvider authenticatedUserProvider;
+
+    public TransactionListingService(
+            TransactionRepository transactionRepository,
+            AuthenticatedUserProvider authenticatedUserProvider) {
+        this.transactionRepository = transactionRepository;
+        this.authenticatedUserProvider = authenticatedUserProvider;
+    }
+
+    /**
+     * @param from      earliest transaction date, inclusive; {@code null} for no lower bound
+     * @param to        latest transaction date, inclusive; {@code null} for no upper bound
+     * @param minAmount smallest USD amount, inclusive; {@code null} for no lower bound
+     * @param maxAmount largest USD amount, inclusive; {@code null} for no upper bound
+     * @param cursor    {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param limit     maximum number of transactions in the page
+     * @throws InvalidRequestException if a range is inverted, an amount does not fit in cents or the cursor is
+     *                                 invalid
+     */
+    public TransactionPageResponse listTransactions(
+            LocalDate from,
+            LocalDate to,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String cursor,
+            int limit) {
+
+        LocalDate fromDate = from != null ? from : EARLIEST_DATE;
+        LocalDate toDate = to != null ? to : LATEST_DATE;
+
+        if (fromDate.isAfter(toDate)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new InvalidRequestException("'minAmount' must not be greater than 'maxAmount'");
+        }
+
+        Long minCents = minAmount != null ? toCents("minAmount", minAmount, RoundingMode.CEILING) : null;
+        Long maxCents = maxAmount != null ? toCents("maxAmount", maxAmount, RoundingMode.FLOOR) : null;
+
+        TransactionCursor after = cursor != null ? TransactionCursor.decode(cursor) : TransactionCursor.before(fromDate);
+        LocalDate scanFrom = after.transactionDate().isAfter(fromDate) ? after.transactionDate() : fromDate;
+        int userId = authenticatedUserProvider.get().id();
+
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        List<TransactionView> rows = transactionRepository.findPage(
+                userId, scanFrom, toDate, after.transactionDate(), after.id(), minCents, maxCents, Limit.of(limit + 1));
+        event.complete("TransactionRepository", "findPage", !rows.isEmpty());
+
+        boolean hasMore = rows.size() > limit;
+        List<TransactionView> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TransactionView last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.transactionDate(), UUID.fromString(last.id())).encode();
+        }
+
+        List<TransactionSummary> items = page.stream()
+                .map(row -> new TransactionSummary(row.id(), row.description(), row.transactionDate(), Money.fromCents(row.amountUsdCents())))
+                .toList();
+
+        return new TransactionPageResponse(items, nextCursor);
+    }
+
+    private static long toCents(String name, BigDecimal amount, RoundingMode rounding) {
+        try {
+            return Money.toCents(amount, rounding);
+        } catch (ArithmeticException ex) {
+            throw new InvalidRequestException("'%s' is out of range".formatted(name));
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.wex.purchasetransaction.transaction.service.write;
+
+import com.wex.purchasetransaction.config.properties.TransactionWriteProperties;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Funnels transaction inserts from request threads to a single writer thread that commits them in
+ * micro-batches, so concurrent requests share one SQLite write lock and one fsync instead of contending for it.
+ * <p>
+ * {@link #write} returns only once the caller's batch has committed. If a batch fails, its transactions are
+ * retried one per commit so a single bad row fails only its own request. The writer claims each write before
+ * batching it. A caller gives up after {@code commit-timeout} only if its write is still unclaimed, and the
+ * writer then skips it; once claimed, the caller waits for the real outcome, so a durable row is never reported
+ * as a failure. If the writer thread dies, the writes it held are failed and a new writer is started.
+ */
+@Component
+public class TransactionWriteBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionWriteBatcher.class);
+
+    /**
+     * Persists a batch of transactions in one database transaction.
+     */
+    @FunctionalInterface
+    interface BatchCommitter {
+        void commit(List<Transaction> transactions);
+    }
+
+    /**
+     * A queued insert. {@code state} moves once from {@code QUEUED} to either {@code CLAIMED}, by the writer, or
+     * {@code ABANDONED}, by a caller that gave up, so exactly one side decides whether the row is written.
+     */
+    private record PendingWrite(Transaction transaction, CompletableFuture<Transaction> result, AtomicInteger state) {
+
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int ABANDONED = 2;
+
+        PendingWrite(Transaction transaction) {
+            this(transaction, new CompletableFuture<>(), new AtomicInteger(QUEUED));
+        }
+
+        boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        boolean abandon() {
+            return state.compareAndSet(QUEUED, ABANDONED);
+        }
+    }
+
+    private final TransactionWriteProperties properties;
+    private final BatchCommitter committer;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Counter successfulCommits;
+    private final Counter failedCommits;
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+
+    private volatile Thread writer;
+
+    @Autowired
+    public TransactionWriteBatcher(
+            TransactionWriteProperties properties,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this(properties, transactions -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> transactions.forEach(entityManager::persist)), meterRegistry);
+    }
+
+    TransactionWriteBatcher(TransactionWriteProperties properties, BatchCommitter committer, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.committer = committer;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.successfulCommits = commitCounter("success", meterRegistry);
+        this.failedCommits = commitCounter("failure", meterRegistry);
+        this.batchSizes = DistributionSummary.builder("transaction.write.batch.size")
+                .description("Transactions persisted per group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("transaction.write.commit")
+                .description("Time to persist and commit one batch of transactions")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("transaction.write.queue", queue, BlockingQueue::size)
+                .description("Transactions waiting for the writer thread")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (properties.isBatchingEnabled()) {
+            writer = Thread.ofPlatform().name("transaction-writer").daemon().start(this::run);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            current = writer;
+            writer = null;
+        }
+        if (current != null) {
+            current.interrupt();
+            current.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Persists {@code transaction}, blocking until the batch it joined has committed. With batching disabled
+     * the transaction is committed on the calling thread.
+     */
+    public Transaction write(Transaction transaction) {
+        if (!properties.isBatchingEnabled()) {
+            commit(List.of(transaction));
+            return transaction;
+        }
+
+        if (writer == null) {
+            throw new IllegalStateException("Transaction writer is not running");
+        }
+
+        PendingWrite pending = new PendingWrite(transaction);
+        long timeoutNanos = properties.getCommitTimeout().toNanos();
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        try {
+            if (!queue.offer(pending, timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the transaction write queue");
+            }
+            return pending.result().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex.getCause());
+        } catch (TimeoutException ex) {
+            if (pending.abandon()) {
+                throw new IllegalStateException("Timed out waiting for transaction commit", ex);
+            }
+            return awaitClaimed(pending);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (pending.abandon()) {
+                throw new IllegalStateException("Interrupted while waiting for transaction commit", ex);
+            }
+            return awaitClaimed(pending);
+        }
+    }
+
+    /**
+     * Waits, past the commit timeout, for a write the writer already claimed: it is being committed, and the
+     * writer completes it either way.
+     */
+    private static Transaction awaitClaimed(PendingWrite pending) {
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            throw unwrap(ex.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(properties.getMaxBatchSize());
+        long lingerNanos = properties.getLinger().toNanos();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                // Writes whose callers already gave up fail to be claimed and never reach the database
+                PendingWrite first = queue.take();
+                if (!first.claim()) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+
+                while (batch.size() < properties.getMaxBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (next.claim()) {
+                        batch.add(next);
+                    }
+                }
+
+                commitBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error ex) {
+            log.error("Transaction writer failed", ex);
+        } finally {
+            queue.drainTo(batch);
+            IllegalStateException stopped = new IllegalStateException("Transaction writer stopped");
+            batch.forEach(pending -> pending.result().completeExceptionally(stopped));
+            restartIfFailed();
+        }
+    }
+
+    /**
+     * Replaces the current thread as writer unless {@link #stop} has cleared it, so a writer that died does not
+     * leave callers waiting on a queue nobody drains.
+     */
+    private synchronized void restartIfFailed() {
+        if (writer == Thread.currentThread()) {
+            log.warn("Restarting transaction writer");
+            start();
+        }
+    }
+
+    private void commitBatch(List<PendingWrite> batch) {
+        List<Transaction> transactions = batch.stream().map(PendingWrite::transaction).toList();
+
+        try {
+            commit(transactions);
+            batch.forEach(pending -> pending.result().complete(pending.transaction()));
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(ex);
+                return;
+            }
+
+            log.warn("Group commit failed, retrying transactions individually [size={}]", batch.size(), ex);
+            batch.forEach(pending -> commitBatch(List.of(pending)));
+        }
+    }
+
+    private void commit(List<Transaction> transactions) {
+        long start = System.nanoTime();
+
+        try {
+            committer.commit(transactions);
+            successfulCommits.increment();
+            batchSizes.record(transactions.size());
+        } catch (RuntimeException ex) {
+            failedCommits.increment();
+            throw ex;
+        } finally {
+            commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Counter commitCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("transaction.write.commits")
+                .description("Group commits of transaction inserts")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
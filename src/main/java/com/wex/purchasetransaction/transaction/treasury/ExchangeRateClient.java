@@ -1,15 +1,24 @@
 package com.wex.purchasetransaction.transaction.treasury;
 
-import org.springframework.cache.annotation.Cacheable;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.function.Function;
 
 public interface ExchangeRateClient {
-    @Cacheable(
-            cacheNames = "treasuryRates",
-            key = "#currency + ':' + #purchaseDate",
-            sync = true
-    )
-    BigDecimal getExchangeRate(String currency, LocalDate transactionDate);
+    ConversionRate getExchangeRate(String currency, LocalDate transactionDate);
+
+    /**
+     * Returns the rate if it can be answered from memory without any I/O, or {@code null} otherwise.
+     */
+    default ConversionRate getCachedExchangeRate(String currency, LocalDate transactionDate) {
+        return null;
+    }
+
+    /**
+     * Resolves up front every rate needed for purchase dates in {@code [from, to]}, and returns a lookup that
+     * answers those dates from memory, with {@code null} where no rate applies. Bulk readers call this once
+     * instead of {@link #getExchangeRate} per date.
+     */
+    Function<LocalDate, ConversionRate> getExchangeRates(String currency, LocalDate from, LocalDate to);
 }
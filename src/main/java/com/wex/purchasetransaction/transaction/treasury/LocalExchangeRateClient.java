@@ -0,0 +1,87 @@
+package com.wex.purchasetransaction.transaction.treasury;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryUnavailableException;
+import com.wex.purchasetransaction.transaction.treasury.index.ExchangeRateIndex;
+import com.wex.purchasetransaction.transaction.treasury.sync.ExchangeRateSyncJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Resolves exchange rates from the in-memory {@link ExchangeRateIndex} built from the local
+ * {@code exchange_rates} table, so the request path never calls the Treasury API or the database.
+ * <p>
+ * Until {@link ExchangeRateSyncJob} has completed its first run, a missing rate may just not have been synced
+ * yet. Such lookups fail with {@link TreasuryUnavailableException} (503) instead of reporting that no rate
+ * exists.
+ */
+@Component
+@ConditionalOnProperty(prefix = "treasury.exchange-rate", name = "source", havingValue = "local")
+public class LocalExchangeRateClient implements ExchangeRateClient {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalExchangeRateClient.class);
+
+    private final ExchangeRateIndex exchangeRateIndex;
+    private final TreasuryProperties properties;
+    private final ExchangeRateSyncJob syncJob;
+
+    /**
+     * {@code syncJob} has no bean when {@code treasury.exchange-rate.sync.enabled} is off and the table is
+     * maintained some other way; the index is then trusted as complete.
+     */
+    public LocalExchangeRateClient(
+            ExchangeRateIndex exchangeRateIndex,
+            TreasuryProperties properties,
+            ObjectProvider<ExchangeRateSyncJob> syncJob) {
+        this.exchangeRateIndex = exchangeRateIndex;
+        this.properties = properties;
+        this.syncJob = syncJob.getIfAvailable();
+    }
+
+    @Override
+    public ConversionRate getExchangeRate(String currency, LocalDate purchaseDate) {
+        ConversionRate rate = exchangeRateIndex.rateOn(currency, purchaseDate);
+
+        if (rate == null && syncJob != null && !syncJob.hasCompleted()) {
+            log.warn("Local exchange rates not synced yet [currency={}, purchaseDate={}]", currency, purchaseDate);
+            throw new TreasuryUnavailableException("Exchange rates are still being synchronized from Treasury");
+        }
+
+        if (rate == null) {
+            LocalDate windowStart = purchaseDate.minusMonths(properties.getMaxMonthsLookback());
+
+            log.warn(
+                    "No local exchange rate found [currency={}, purchaseDate={}, windowStart={}, windowEnd={}]",
+                    currency, purchaseDate, windowStart, purchaseDate
+            );
+
+            throw new NoSuchElementException(
+                    "No exchange rate available for currency '%s' within the allowed lookup window (%s → %s)"
+                            .formatted(currency, windowStart, purchaseDate)
+            );
+        }
+
+        return rate;
+    }
+
+    @Override
+    public Function<LocalDate, ConversionRate> getExchangeRates(String currency, LocalDate from, LocalDate to) {
+        if (syncJob != null && !syncJob.hasCompleted()) {
+            throw new TreasuryUnavailableException("Exchange rates are still being synchronized from Treasury");
+        }
+        return date -> exchangeRateIndex.rateOn(currency, date);
+    }
+
+    @Override
+    public ConversionRate getCachedExchangeRate(String currency, LocalDate purchaseDate) {
+        return exchangeRateIndex.rateOn(currency, purchaseDate);
+    }
+}
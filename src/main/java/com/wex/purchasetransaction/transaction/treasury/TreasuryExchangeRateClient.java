@@ -1,32 +1,84 @@
 package com.wex.purchasetransaction.transaction.treasury;
 
 import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
 import com.wex.purchasetransaction.transaction.client.TreasuryRestClient;
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryUnavailableException;
+import com.wex.purchasetransaction.transaction.treasury.cache.CurrencyRateRanges;
+import com.wex.purchasetransaction.transaction.treasury.cache.TreasuryRateCache;
 import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
 import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
 
 @Component
+@ConditionalOnProperty(prefix = "treasury.exchange-rate", name = "source", havingValue = "treasury", matchIfMissing = true)
 public class TreasuryExchangeRateClient implements ExchangeRateClient {
 
     private static final Logger log = LoggerFactory.getLogger(TreasuryExchangeRateClient.class);
 
     private final TreasuryRestClient restClient;
     private final TreasuryProperties properties;
+    private final TreasuryRateCache rateCache;
 
-    public TreasuryExchangeRateClient(TreasuryRestClient restClient, TreasuryProperties properties) {
+    public TreasuryExchangeRateClient(TreasuryRestClient restClient, TreasuryProperties properties, TreasuryRateCache rateCache) {
         this.restClient = restClient;
         this.properties = properties;
+        this.rateCache = rateCache;
     }
 
     @Override
-    public BigDecimal getExchangeRate(String currency, LocalDate purchaseDate) {
+    public ConversionRate getExchangeRate(String currency, LocalDate purchaseDate) {
+        try {
+            return rateCache.get(currency, purchaseDate, () -> fetchRate(currency, purchaseDate));
+        } catch (TreasuryUnavailableException ex) {
+            ConversionRate stale = rateCache.lookupStale(currency, purchaseDate);
+
+            if (stale == null) {
+                throw ex;
+            }
+
+            log.warn(
+                    "Treasury unavailable, serving latest cached rate [currency={}, purchaseDate={}, reason={}]",
+                    currency, purchaseDate, ex.getMessage()
+            );
+            return stale;
+        }
+    }
+
+    @Override
+    public ConversionRate getCachedExchangeRate(String currency, LocalDate purchaseDate) {
+        return rateCache.lookup(currency, purchaseDate);
+    }
+
+    /**
+     * Fetches every publication for {@code currency} from the start of the lookback window of {@code from} up to
+     * {@code to} in one paged query, stores them in the cache, and answers from exactly that run. The lookup
+     * keeps working even if the currency is evicted from the cache while it is in use.
+     */
+    @Override
+    public Function<LocalDate, ConversionRate> getExchangeRates(String currency, LocalDate from, LocalDate to) {
+        LocalDate windowStart = from.minusMonths(properties.getMaxMonthsLookback());
+        List<TreasuryRate> publications = restClient.fetchRates(Set.of(currency), windowStart, to);
+        CurrencyRateRanges ranges = rateCache.putPublications(currency, publications, to);
+
+        log.debug(
+                "Exchange rates resolved for range [currency={}, from={}, to={}, publications={}]",
+                currency, from, to, publications.size()
+        );
+
+        return date -> rateCache.lookup(ranges, date);
+    }
+
+    private TreasuryRate fetchRate(String currency, LocalDate purchaseDate) {
         log.debug("Fetching exchange rate [currency={}, purchaseDate={}]", currency, purchaseDate);
 
         LocalDate windowStart = purchaseDate.minusMonths(properties.getMaxMonthsLookback());
@@ -44,7 +96,7 @@ public class TreasuryExchangeRateClient implements ExchangeRateClient {
                 currency, rate.getRecordDate(), rate.getExchangeRate()
         );
 
-        return rate.getExchangeRate();
+        return rate;
     }
 
     private String buildFilter(String currency, LocalDate end, LocalDate start) {
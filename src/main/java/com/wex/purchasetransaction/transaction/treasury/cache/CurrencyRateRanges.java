@@ -0,0 +1,102 @@
+package com.wex.purchasetransaction.transaction.treasury.cache;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, record-date ordered set of {@link RateRange}s for a single currency.
+ * Updates return a new instance so readers never observe a partially merged state.
+ */
+public final class CurrencyRateRanges {
+
+    static final CurrencyRateRanges EMPTY = new CurrencyRateRanges(new RateRange[0]);
+
+    private final RateRange[] ranges;
+
+    private CurrencyRateRanges(RateRange[] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Returns the range whose publication is the latest one on or before {@code date}, if that range covers it.
+     */
+    public RateRange find(LocalDate date) {
+        int index = floorIndex(date);
+        if (index < 0) {
+            return null;
+        }
+        RateRange range = ranges[index];
+        return range.covers(date) ? range : null;
+    }
+
+    /**
+     * Returns the range of the latest publication on or before {@code date}, whether or not it is known to
+     * cover that date.
+     */
+    public RateRange floor(LocalDate date) {
+        int index = floorIndex(date);
+        return index < 0 ? null : ranges[index];
+    }
+
+    /**
+     * Merges a range into the set, widening the existing range when the publication is already known.
+     */
+    public CurrencyRateRanges merge(RateRange range) {
+        int index = floorIndex(range.recordDate());
+
+        if (index >= 0 && ranges[index].recordDate().equals(range.recordDate())) {
+            RateRange existing = ranges[index];
+            RateRange merged = new RateRange(
+                    existing.recordDate(),
+                    existing.validUntil().isAfter(range.validUntil()) ? existing.validUntil() : range.validUntil(),
+                    range.conversionRate()
+            );
+            if (merged.equals(existing)) {
+                return this;
+            }
+            RateRange[] copy = ranges.clone();
+            copy[index] = merged;
+            return new CurrencyRateRanges(copy);
+        }
+
+        RateRange[] copy = new RateRange[ranges.length + 1];
+        int insertAt = index + 1;
+        System.arraycopy(ranges, 0, copy, 0, insertAt);
+        copy[insertAt] = range;
+        System.arraycopy(ranges, insertAt, copy, insertAt + 1, ranges.length - insertAt);
+        return new CurrencyRateRanges(copy);
+    }
+
+    /**
+     * Returns the range of the newest known publication, or {@code null} when empty.
+     */
+    public RateRange latest() {
+        return ranges.length == 0 ? null : ranges[ranges.length - 1];
+    }
+
+    public List<RateRange> ranges() {
+        return Arrays.asList(ranges.clone());
+    }
+
+    public int size() {
+        return ranges.length;
+    }
+
+    private int floorIndex(LocalDate date) {
+        int low = 0;
+        int high = ranges.length - 1;
+        int result = -1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ranges[mid].recordDate().isAfter(date)) {
+                high = mid - 1;
+            } else {
+                result = mid;
+                low = mid + 1;
+            }
+        }
+        return result;
+    }
+}
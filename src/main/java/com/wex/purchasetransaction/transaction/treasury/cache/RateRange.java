@@ -0,0 +1,32 @@
+package com.wex.purchasetransaction.transaction.treasury.cache;
+
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A Treasury publication together with the span of dates it is known to be the latest publication for.
+ * <p>
+ * {@code validUntil} is the furthest purchase date for which Treasury confirmed that no newer rate exists,
+ * so any date in {@code [recordDate, validUntil]} resolves to {@code conversionRate} (subject to the lookback
+ * window).
+ */
+public record RateRange(LocalDate recordDate, LocalDate validUntil, ConversionRate conversionRate) {
+
+    public RateRange(LocalDate recordDate, LocalDate validUntil, BigDecimal rate) {
+        this(recordDate, validUntil, ConversionRate.of(rate));
+    }
+
+    public BigDecimal rate() {
+        return conversionRate.value();
+    }
+
+    public boolean covers(LocalDate date) {
+        return !date.isBefore(recordDate) && !date.isAfter(validUntil);
+    }
+
+    RateRange extendTo(LocalDate date) {
+        return date.isAfter(validUntil) ? new RateRange(recordDate, date, conversionRate) : this;
+    }
+}
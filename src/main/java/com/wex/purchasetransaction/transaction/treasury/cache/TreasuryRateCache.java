@@ -0,0 +1,429 @@
+package com.wex.purchasetransaction.transaction.treasury.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.client.TreasuryRestClient;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Per-currency interval cache of Treasury rates.
+ * <p>
+ * Treasury publishes only a handful of rates per currency per year, so instead of caching each purchase date
+ * separately, every fetched rate is stored with the range of dates it is known to answer. Any later purchase
+ * date inside that range is served from memory. Concurrent misses for the same currency and date share a
+ * single load.
+ * <p>
+ * Lookups Treasury has no rate for are remembered in a separate, short-lived negative cache, so repeated
+ * requests for an unknown currency or a date outside the lookback window do not go back to Treasury.
+ * <p>
+ * With {@code treasury.exchange-rate.cache.refresh.enabled}, entries are no longer dropped on a fixed schedule.
+ * A currency read after {@code refresh.after-write} is reloaded in the background while the current ranges
+ * keep being served. Only publications since the newest known record date are fetched, because historical
+ * rates never change. A failed reload leaves the stale ranges in place until {@code refresh.max-stale}.
+ * <p>
+ * Each currency's ranges live in a holder that is merged into in place, so storing another range never
+ * counts as a write: expiry and refresh stay timed from when the currency was first loaded or last refreshed.
+ */
+@Component
+public class TreasuryRateCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TreasuryRateCache.class);
+
+    public static final String CACHE_NAME = "treasuryRates";
+    public static final String NEGATIVE_CACHE_NAME = "treasuryRatesUnavailable";
+
+    private final Cache<String, AtomicReference<CurrencyRateRanges>> cache;
+    private final Cache<String, String> unavailable;
+    private final ConcurrentMap<String, CompletableFuture<ConversionRate>> inFlight = new ConcurrentHashMap<>();
+    private final TreasuryProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter negativeHits;
+    private final Counter refreshes;
+    private final Counter refreshFailures;
+    private final Timer loads;
+    private final Timer unavailableLoads;
+    private final Timer failedLoads;
+    private final Ticker ticker;
+
+    public TreasuryRateCache(TreasuryProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, null);
+    }
+
+    @Autowired
+    public TreasuryRateCache(TreasuryProperties properties, MeterRegistry meterRegistry, TreasuryRestClient restClient) {
+        this(properties, meterRegistry, restClient, Ticker.systemTicker(), Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    TreasuryRateCache(
+            TreasuryProperties properties,
+            MeterRegistry meterRegistry,
+            TreasuryRestClient restClient,
+            Ticker ticker,
+            Executor refreshExecutor) {
+        this.properties = properties;
+        this.ticker = ticker;
+
+        TreasuryProperties.Refresh refresh = properties.getCache().getRefresh();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(properties.getCache().getMaximumSize())
+                .ticker(ticker)
+                .executor(refreshExecutor);
+
+        if (refresh.isEnabled() && restClient != null) {
+            this.cache = builder
+                    .expireAfterWrite(refresh.getMaxStale())
+                    .refreshAfterWrite(refresh.getAfterWrite())
+                    .build(new LatestPublicationReloader(restClient));
+        } else {
+            this.cache = builder
+                    .expireAfterWrite(properties.getCache().getExpireAfterWrite())
+                    .build();
+        }
+
+        this.unavailable = Caffeine.newBuilder()
+                .maximumSize(properties.getCache().getNegative().getMaximumSize())
+                .expireAfterWrite(properties.getCache().getNegative().getExpireAfterWrite())
+                .ticker(ticker)
+                .build();
+
+        this.hits = Counter.builder("treasury.rates.cache.requests")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("treasury.rates.cache.requests")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("treasury.rates.cache.currencies", cache, Cache::estimatedSize)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        this.negativeHits = Counter.builder("treasury.rates.cache.requests")
+                .tag("cache", NEGATIVE_CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        Gauge.builder("treasury.rates.cache.unavailable", unavailable, Cache::estimatedSize)
+                .tag("cache", NEGATIVE_CACHE_NAME)
+                .register(meterRegistry);
+
+        this.refreshes = Counter.builder("treasury.rates.cache.refreshes")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("treasury.rates.cache.refreshes")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.loads = loadTimer("success", meterRegistry);
+        this.unavailableLoads = loadTimer("unavailable", meterRegistry);
+        this.failedLoads = loadTimer("failure", meterRegistry);
+        Gauge.builder("treasury.rates.cache.age", this, rateCache -> rateCache.oldestEntryAge().toSeconds())
+                .tag("cache", CACHE_NAME)
+                .description("Time since the least recently written currency was last loaded or refreshed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the rate for {@code currency} on {@code purchaseDate}, invoking {@code loader} only when no
+     * cached range answers the date. The loaded rate is remembered as valid from its record date up to the
+     * purchase date. A {@link NoSuchElementException} from the loader is remembered too, and rethrown for the
+     * same currency and date until it expires from the negative cache.
+     */
+    public ConversionRate get(String currency, LocalDate purchaseDate, Supplier<TreasuryRate> loader) {
+        ConversionRate cached = lookup(currency, purchaseDate);
+
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        String unavailableReason = unavailable.getIfPresent(key(currency, purchaseDate));
+
+        if (unavailableReason != null) {
+            negativeHits.increment();
+            throw new NoSuchElementException(unavailableReason);
+        }
+
+        misses.increment();
+        return load(currency, purchaseDate, loader);
+    }
+
+    /**
+     * Returns the cached rate for the date, or {@code null} when no cached range answers it.
+     */
+    public ConversionRate lookup(String currency, LocalDate purchaseDate) {
+        AtomicReference<CurrencyRateRanges> ranges = cache.getIfPresent(currency);
+        return ranges == null ? null : lookup(ranges.get(), purchaseDate);
+    }
+
+    /**
+     * Resolves {@code purchaseDate} against a given set of ranges, applying the same lookback window as
+     * {@link #lookup(String, LocalDate)}.
+     */
+    public ConversionRate lookup(CurrencyRateRanges ranges, LocalDate purchaseDate) {
+        RateRange range = ranges.find(purchaseDate);
+
+        if (range == null || range.recordDate().isBefore(windowStart(purchaseDate))) {
+            return null;
+        }
+
+        return range.conversionRate();
+    }
+
+    /**
+     * Best-effort answer for when Treasury cannot be asked: the latest cached publication on or before the
+     * purchase date within the lookback window, even if no cached range confirms it is still current.
+     */
+    public ConversionRate lookupStale(String currency, LocalDate purchaseDate) {
+        AtomicReference<CurrencyRateRanges> ranges = cache.getIfPresent(currency);
+
+        if (ranges == null) {
+            return null;
+        }
+
+        RateRange range = ranges.get().floor(purchaseDate);
+
+        if (range == null || range.recordDate().isBefore(windowStart(purchaseDate))) {
+            return null;
+        }
+
+        return range.conversionRate();
+    }
+
+    /**
+     * Merges the range into the currency's holder, creating it on first use. Merging into an existing holder
+     * does not touch the cache entry, so its expiry and refresh timers keep running from the first load.
+     */
+    public void put(String currency, RateRange range) {
+        cache.get(currency, key -> new AtomicReference<>(CurrencyRateRanges.EMPTY))
+                .updateAndGet(existing -> existing.merge(range));
+    }
+
+    /**
+     * Stores a complete run of publications for one currency, as returned by a bulk fetch covering
+     * {@code [from, to]}. Each publication is valid until the day before the next one, and the last one until
+     * {@code to}. Returns the ranges built from these publications alone.
+     */
+    public CurrencyRateRanges putPublications(String currency, List<TreasuryRate> publications, LocalDate to) {
+        CurrencyRateRanges fetched = CurrencyRateRanges.EMPTY;
+
+        for (RateRange range : toRanges(publications, to)) {
+            put(currency, range);
+            fetched = fetched.merge(range);
+        }
+        return fetched;
+    }
+
+    /**
+     * Returns a point-in-time copy of every cached currency. Values are immutable, so the copy is consistent
+     * per currency without blocking writers.
+     */
+    public Map<String, CurrencyRateRanges> entries() {
+        Map<String, CurrencyRateRanges> entries = new HashMap<>();
+        cache.asMap().forEach((currency, ranges) -> entries.put(currency, ranges.get()));
+        return Map.copyOf(entries);
+    }
+
+    /**
+     * Merges previously cached ranges for a currency back into the cache, e.g. from a snapshot.
+     */
+    public void restore(String currency, List<RateRange> ranges) {
+        ranges.forEach(range -> put(currency, range));
+    }
+
+    public long hitCount() {
+        return (long) hits.count();
+    }
+
+    public long missCount() {
+        return (long) misses.count();
+    }
+
+    public long negativeHitCount() {
+        return (long) negativeHits.count();
+    }
+
+    /**
+     * Age of the least recently written currency, i.e. how stale the oldest served value may be.
+     */
+    public Duration oldestEntryAge() {
+        return cache.policy()
+                .expireAfterWrite()
+                .map(policy -> cache.asMap()
+                        .keySet()
+                        .stream()
+                        .map(currency -> policy.ageOf(currency).orElse(Duration.ZERO))
+                        .max(Comparator.naturalOrder())
+                        .orElse(Duration.ZERO))
+                .orElse(Duration.ZERO);
+    }
+
+    private ConversionRate load(String currency, LocalDate purchaseDate, Supplier<TreasuryRate> loader) {
+        String key = key(currency, purchaseDate);
+        CompletableFuture<ConversionRate> pending = new CompletableFuture<>();
+        CompletableFuture<ConversionRate> running = inFlight.putIfAbsent(key, pending);
+
+        if (running != null) {
+            return await(running);
+        }
+
+        long start = ticker.read();
+
+        try {
+            TreasuryRate loaded = loader.get();
+            loads.record(ticker.read() - start, TimeUnit.NANOSECONDS);
+            ConversionRate rate = ConversionRate.of(loaded.exchangeRate());
+            put(currency, new RateRange(loaded.recordDate(), validUntil(purchaseDate), rate));
+            pending.complete(rate);
+            return rate;
+        } catch (NoSuchElementException ex) {
+            unavailableLoads.record(ticker.read() - start, TimeUnit.NANOSECONDS);
+            // Only a definitive "no rate" answer is cached; transport and server errors are retried next time
+            unavailable.put(key, ex.getMessage());
+            pending.completeExceptionally(ex);
+            throw ex;
+        } catch (RuntimeException ex) {
+            failedLoads.record(ticker.read() - start, TimeUnit.NANOSECONDS);
+            pending.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    private static Timer loadTimer(String result, MeterRegistry meterRegistry) {
+        return Timer.builder("treasury.rates.cache.loads")
+                .description("Time spent loading a rate into the cache on a miss")
+                .tag("cache", CACHE_NAME)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static List<RateRange> toRanges(List<TreasuryRate> publications, LocalDate to) {
+        List<TreasuryRate> ordered = publications.stream()
+                .sorted(Comparator.comparing(TreasuryRate::recordDate))
+                .toList();
+        List<RateRange> ranges = new ArrayList<>(ordered.size());
+
+        for (int i = 0; i < ordered.size(); i++) {
+            TreasuryRate rate = ordered.get(i);
+            LocalDate validUntil = i + 1 < ordered.size()
+                    ? ordered.get(i + 1).recordDate().minusDays(1)
+                    : validUntil(to);
+
+            if (!validUntil.isBefore(rate.recordDate())) {
+                ranges.add(new RateRange(rate.recordDate(), validUntil, rate.exchangeRate()));
+            }
+        }
+
+        return ranges;
+    }
+
+    private static String key(String currency, LocalDate purchaseDate) {
+        return currency + ':' + purchaseDate;
+    }
+
+    private LocalDate windowStart(LocalDate purchaseDate) {
+        return purchaseDate.minusMonths(properties.getMaxMonthsLookback());
+    }
+
+    private static LocalDate validUntil(LocalDate purchaseDate) {
+        // Publications dated after today may still appear, so dates beyond today are never confirmed
+        LocalDate today = LocalDate.now();
+        return purchaseDate.isAfter(today) ? today : purchaseDate;
+    }
+
+    private static ConversionRate await(CompletableFuture<ConversionRate> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Refreshes a currency by fetching only publications since its newest known record date and extending the
+     * ranges up to today. The holder is updated in place, so ranges stored while the fetch was running are kept;
+     * returning it restarts the entry's timers. Failures propagate so Caffeine keeps serving the previous ranges.
+     */
+    private final class LatestPublicationReloader implements CacheLoader<String, AtomicReference<CurrencyRateRanges>> {
+
+        private final TreasuryRestClient restClient;
+
+        private LatestPublicationReloader(TreasuryRestClient restClient) {
+            this.restClient = restClient;
+        }
+
+        @Override
+        public AtomicReference<CurrencyRateRanges> load(String currency) {
+            // Entries are only ever created through put; nothing to load for an unknown currency
+            return null;
+        }
+
+        @Override
+        public AtomicReference<CurrencyRateRanges> reload(String currency, AtomicReference<CurrencyRateRanges> current) {
+            RateRange latest = current.get().latest();
+
+            if (latest == null) {
+                return current;
+            }
+
+            LocalDate today = LocalDate.now();
+            List<TreasuryRate> publications;
+
+            try {
+                publications = restClient.fetchRates(Set.of(currency), latest.recordDate(), today);
+            } catch (RuntimeException ex) {
+                refreshFailures.increment();
+                log.warn("Exchange rate refresh failed, serving stale rates [currency={}, latest={}, error={}]",
+                        currency, latest.recordDate(), ex.toString());
+                throw ex;
+            }
+
+            for (RateRange range : toRanges(publications, today)) {
+                current.updateAndGet(existing -> existing.merge(range));
+            }
+
+            refreshes.increment();
+            log.debug("Exchange rates refreshed [currency={}, publications={}]", currency, publications.size());
+
+            return current;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.wex.purchasetransaction.transaction.treasury.cache;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists the {@code treasuryRates} cache to a compact binary file and restores it at startup.
+ * <p>
+ * The snapshot is read through a memory-mapped buffer while this bean is initialised, which happens before the
+ * web server starts and before readiness reports UP, so a restarted node answers its first conversions from
+ * memory. It is written periodically and once more at shutdown, to a temporary file that is then atomically
+ * moved into place so a crash mid-write never leaves a truncated snapshot behind.
+ * <p>
+ * Layout (big-endian): magic, version, currency count, then per currency its name and ranges, each range as
+ * record date and valid-until epoch days followed by the rate's scale, unscaled byte count and unscaled bytes.
+ * Scale and count are full {@code int}s, so no rate is too precise to round-trip.
+ */
+@Component
+@ConditionalOnExpression(
+        "'${treasury.exchange-rate.source:treasury}' == 'treasury' && ${treasury.exchange-rate.cache.snapshot.enabled:false}"
+)
+public class TreasuryRateCacheSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(TreasuryRateCacheSnapshot.class);
+
+    static final int MAGIC = 0x57585253; // "WXRS"
+    static final short VERSION = 2;
+
+    private final TreasuryRateCache rateCache;
+    private final Path path;
+
+    public TreasuryRateCacheSnapshot(TreasuryRateCache rateCache, TreasuryProperties properties) {
+        this.rateCache = rateCache;
+        this.path = properties.getCache().getSnapshot().getPath();
+    }
+
+    @PostConstruct
+    public void loadOnStartup() {
+        try {
+            int currencies = load();
+            log.info("Exchange rate cache restored from snapshot [path={}, currencies={}]", path, currencies);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Exchange rate cache snapshot could not be restored, starting cold [path={}]", path, ex);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${treasury.exchange-rate.cache.snapshot.interval:PT5M}",
+            fixedDelayString = "${treasury.exchange-rate.cache.snapshot.interval:PT5M}"
+    )
+    public void scheduledSave() {
+        saveQuietly();
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveQuietly();
+    }
+
+    /**
+     * Restores every currency in the snapshot file, returning how many were read. A missing file restores
+     * nothing.
+     */
+    public int load() throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("Truncated exchange rate snapshot", ex);
+        }
+    }
+
+    /**
+     * Writes the current cache contents, returning how many currencies were written.
+     */
+    public int save() throws IOException {
+        Map<String, CurrencyRateRanges> entries = rateCache.entries();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(entries, out);
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+        try {
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        return entries.size();
+    }
+
+    private void saveQuietly() {
+        try {
+            int currencies = save();
+            log.debug("Exchange rate cache snapshot written [path={}, currencies={}]", path, currencies);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Exchange rate cache snapshot could not be written [path={}]", path, ex);
+        }
+    }
+
+    private static void write(Map<String, CurrencyRateRanges> entries, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(entries.size());
+
+        for (Map.Entry<String, CurrencyRateRanges> entry : entries.entrySet()) {
+            byte[] currency = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            List<RateRange> ranges = entry.getValue().ranges();
+
+            out.writeShort(currency.length);
+            out.write(currency);
+            out.writeInt(ranges.size());
+
+            for (RateRange range : ranges) {
+                byte[] unscaled = range.rate().unscaledValue().toByteArray();
+
+                out.writeInt((int) range.recordDate().toEpochDay());
+                out.writeInt((int) range.validUntil().toEpochDay());
+                out.writeInt(range.rate().scale());
+                out.writeInt(unscaled.length);
+                out.write(unscaled);
+            }
+        }
+    }
+
+    private int read(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not an exchange rate snapshot");
+        }
+
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported exchange rate snapshot version " + version);
+        }
+
+        int currencies = buffer.getInt();
+        Map<String, List<RateRange>> restored = new LinkedHashMap<>();
+
+        for (int i = 0; i < currencies; i++) {
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+
+            int count = buffer.getInt();
+            List<RateRange> ranges = new ArrayList<>(count);
+
+            for (int j = 0; j < count; j++) {
+                LocalDate recordDate = LocalDate.ofEpochDay(buffer.getInt());
+                LocalDate validUntil = LocalDate.ofEpochDay(buffer.getInt());
+                int scale = buffer.getInt();
+                byte[] unscaled = new byte[buffer.getInt()];
+                buffer.get(unscaled);
+
+                ranges.add(new RateRange(recordDate, validUntil, new BigDecimal(new BigInteger(unscaled), scale)));
+            }
+
+            restored.put(new String(name, StandardCharsets.UTF_8), ranges);
+        }
+
+        // Only restore once the whole file parsed, so a corrupt snapshot is ignored rather than half-applied
+        restored.forEach(rateCache::restore);
+        return restored.size();
+    }
+}
@@ -0,0 +1,70 @@
+package com.wex.purchasetransaction.transaction.treasury.cache;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.client.TreasuryRestClient;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Preloads the {@code treasuryRates} cache for the configured currencies with one batched Treasury fetch
+ * instead of one round trip per currency.
+ */
+@Component
+@ConditionalOnProperty(prefix = "treasury.exchange-rate", name = "source", havingValue = "treasury", matchIfMissing = true)
+public class TreasuryRateCacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(TreasuryRateCacheWarmer.class);
+
+    private final TreasuryRestClient restClient;
+    private final TreasuryRateCache rateCache;
+    private final TreasuryProperties properties;
+
+    public TreasuryRateCacheWarmer(TreasuryRestClient restClient, TreasuryRateCache rateCache, TreasuryProperties properties) {
+        this.restClient = restClient;
+        this.rateCache = rateCache;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        Set<String> currencies = properties.getCache().getWarmUp().getCurrencies();
+
+        if (currencies.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDate to = LocalDate.now();
+            LocalDate from = to.minus(properties.getCache().getWarmUp().getPeriod())
+                    .minusMonths(properties.getMaxMonthsLookback());
+            warmUp(currencies, from, to);
+        } catch (RuntimeException ex) {
+            log.warn("Exchange rate cache warm-up failed [currencies={}]", currencies, ex);
+        }
+    }
+
+    public void warmUp(Set<String> currencies, LocalDate from, LocalDate to) {
+        List<TreasuryRate> rates = restClient.fetchRates(currencies, from, to);
+
+        Map<String, List<TreasuryRate>> byCurrency = rates.stream()
+                .collect(Collectors.groupingBy(TreasuryRate::currency));
+
+        byCurrency.forEach((currency, publications) -> rateCache.putPublications(currency, publications, to));
+
+        log.info(
+                "Exchange rate cache warmed [currencies={}, rates={}, from={}, to={}]",
+                byCurrency.keySet(), rates.size(), from, to
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.wex.purchasetransaction.transaction.treasury.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TreasuryMeta(
+    @JsonProperty("total-count") int totalCount,
+    @JsonProperty("total-pages") int totalPages
+) {}
@@ -8,8 +8,13 @@ import java.time.LocalDate;
 public record TreasuryRate(
     @JsonProperty("record_date") LocalDate recordDate,
     @JsonProperty("country_currency_desc") String countryCurrencyDesc,
+    @JsonProperty("currency") String currency,
     @JsonProperty("exchange_rate") BigDecimal exchangeRate
 ) {
+    public TreasuryRate(LocalDate recordDate, String countryCurrencyDesc, BigDecimal exchangeRate) {
+        this(recordDate, countryCurrencyDesc, null, exchangeRate);
+    }
+
     public LocalDate getRecordDate() { return recordDate; }
     public BigDecimal getExchangeRate() { return exchangeRate; }
 }
@@ -0,0 +1,92 @@
+package com.wex.purchasetransaction.transaction.treasury.index;
+
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dense, immutable rate lookup table for one currency, indexed by {@link LocalDate#toEpochDay()}.
+ * <p>
+ * Every day from the first publication until the last publication leaves the lookback window has a slot
+ * holding the ordinal of the publication that applies on that day (the latest one on or before it, if still
+ * within {@code maxMonthsLookback}), or {@link #NO_RATE}. Ordinals point into a small array of
+ * {@link ConversionRate}s built once per publication, which keeps each slot to four bytes and lets lookups
+ * return the exact Treasury value, with its fixed-point form, without allocating.
+ */
+public final class CurrencyRateIndex {
+
+    static final int NO_RATE = -1;
+
+    private final long baseDay;
+    private final int[] slots;
+    private final ConversionRate[] rates;
+
+    private CurrencyRateIndex(long baseDay, int[] slots, ConversionRate[] rates) {
+        this.baseDay = baseDay;
+        this.slots = slots;
+        this.rates = rates;
+    }
+
+    /**
+     * Builds the index from publications ordered by record date. When several publications share a record
+     * date, the first one wins.
+     */
+    public static CurrencyRateIndex build(List<Publication> publications, int maxMonthsLookback) {
+        if (publications.isEmpty()) {
+            return new CurrencyRateIndex(0, new int[0], new ConversionRate[0]);
+        }
+
+        LocalDate[] recordDates = new LocalDate[publications.size()];
+        ConversionRate[] rates = new ConversionRate[publications.size()];
+        int count = 0;
+
+        for (Publication publication : publications) {
+            if (count > 0 && publication.recordDate().equals(recordDates[count - 1])) {
+                continue;
+            }
+            recordDates[count] = publication.recordDate();
+            rates[count] = ConversionRate.of(publication.rate());
+            count++;
+        }
+
+        LocalDate first = recordDates[0];
+        LocalDate last = recordDates[count - 1].plusMonths(maxMonthsLookback).plusDays(1);
+        long baseDay = first.toEpochDay();
+        int[] slots = new int[Math.toIntExact(last.toEpochDay() - baseDay + 1)];
+
+        int current = 0;
+        LocalDate day = first;
+        for (int slot = 0; slot < slots.length; slot++, day = day.plusDays(1)) {
+            while (current + 1 < count && !recordDates[current + 1].isAfter(day)) {
+                current++;
+            }
+            boolean withinLookback = !recordDates[current].isBefore(day.minusMonths(maxMonthsLookback));
+            slots[slot] = withinLookback ? current : NO_RATE;
+        }
+
+        return new CurrencyRateIndex(baseDay, slots, Arrays.copyOf(rates, count));
+    }
+
+    /**
+     * Returns the effective rate on {@code date}, or {@code null} when no publication applies.
+     */
+    public ConversionRate rateOn(LocalDate date) {
+        long offset = date.toEpochDay() - baseDay;
+
+        if (offset < 0 || offset >= slots.length) {
+            return null;
+        }
+
+        int ordinal = slots[(int) offset];
+        return ordinal == NO_RATE ? null : rates[ordinal];
+    }
+
+    public int publicationCount() {
+        return rates.length;
+    }
+
+    public record Publication(LocalDate recordDate, BigDecimal rate) {}
+}
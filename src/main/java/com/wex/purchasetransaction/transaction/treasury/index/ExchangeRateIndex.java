@@ -0,0 +1,95 @@
+package com.wex.purchasetransaction.transaction.treasury.index;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.treasury.repository.ExchangeRateRepository;
+import com.wex.purchasetransaction.transaction.treasury.repository.entity.ExchangeRate;
+import com.wex.purchasetransaction.transaction.treasury.sync.ExchangeRatesSyncedEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory {@link CurrencyRateIndex} per currency, built from the local {@code exchange_rates} table.
+ * <p>
+ * The whole map is replaced on every rebuild, so readers always see a complete index without locking.
+ */
+@Component
+@ConditionalOnProperty(prefix = "treasury.exchange-rate", name = "source", havingValue = "local")
+public class ExchangeRateIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ExchangeRateIndex.class);
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final TreasuryProperties properties;
+
+    private volatile Map<String, CurrencyRateIndex> indexes = Map.of();
+
+    public ExchangeRateIndex(ExchangeRateRepository exchangeRateRepository, TreasuryProperties properties) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        indexes = Map.copyOf(build(exchangeRateRepository.findAllOrdered()));
+        log.info("Exchange rate index built [currencies={}]", indexes.size());
+    }
+
+    @EventListener
+    public void onRatesSynced(ExchangeRatesSyncedEvent event) {
+        rebuild(event.currencies());
+    }
+
+    public void rebuild(Set<String> currencies) {
+        if (currencies.isEmpty()) {
+            return;
+        }
+
+        Map<String, CurrencyRateIndex> rebuilt = build(
+                exchangeRateRepository.findByCurrencyInOrdered(currencies)
+        );
+
+        synchronized (this) {
+            Map<String, CurrencyRateIndex> next = new HashMap<>(indexes);
+            next.putAll(rebuilt);
+            indexes = Map.copyOf(next);
+        }
+
+        log.info("Exchange rate index rebuilt [currencies={}]", rebuilt.keySet());
+    }
+
+    /**
+     * Returns the effective rate for the currency on the date, or {@code null} when none applies.
+     */
+    public ConversionRate rateOn(String currency, LocalDate date) {
+        CurrencyRateIndex index = indexes.get(currency);
+        return index == null ? null : index.rateOn(date);
+    }
+
+    private Map<String, CurrencyRateIndex> build(List<ExchangeRate> rates) {
+        Map<String, List<CurrencyRateIndex.Publication>> byCurrency = new LinkedHashMap<>();
+
+        for (ExchangeRate rate : rates) {
+            byCurrency.computeIfAbsent(rate.getCurrency(), currency -> new ArrayList<>())
+                    .add(new CurrencyRateIndex.Publication(rate.getRecordDate(), rate.getExchangeRate()));
+        }
+
+        Map<String, CurrencyRateIndex> built = new HashMap<>();
+        byCurrency.forEach((currency, publications) ->
+                built.put(currency, CurrencyRateIndex.build(publications, properties.getMaxMonthsLookback()))
+        );
+        return built;
+    }
+}
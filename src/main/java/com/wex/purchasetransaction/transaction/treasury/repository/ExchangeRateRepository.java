@@ -0,0 +1,51 @@
+package com.wex.purchasetransaction.transaction.treasury.repository;
+
+import com.wex.purchasetransaction.transaction.treasury.repository.entity.ExchangeRate;
+import com.wex.purchasetransaction.transaction.treasury.repository.entity.ExchangeRateId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, ExchangeRateId> {
+
+    @Transactional(readOnly = true)
+    @Query("select e from ExchangeRate e order by e.currency, e.recordDate, e.countryCurrencyDesc")
+    List<ExchangeRate> findAllOrdered();
+
+    @Transactional(readOnly = true)
+    @Query("""
+            select e from ExchangeRate e
+            where e.currency in :currencies
+            order by e.currency, e.recordDate, e.countryCurrencyDesc
+            """)
+    List<ExchangeRate> findByCurrencyInOrdered(@Param("currencies") Collection<String> currencies);
+
+    @Transactional(readOnly = true)
+    @Query("select max(e.recordDate) from ExchangeRate e")
+    Optional<LocalDate> findLatestRecordDate();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO exchange_rates (country_currency_desc, record_date, currency, exchange_rate, synced_at)
+            VALUES (:countryCurrencyDesc, :recordDate, :currency, :exchangeRate, CURRENT_TIMESTAMP)
+            ON CONFLICT (country_currency_desc, record_date) DO UPDATE SET
+                currency = excluded.currency,
+                exchange_rate = excluded.exchange_rate,
+                synced_at = excluded.synced_at
+            """, nativeQuery = true)
+    void upsert(
+            @Param("countryCurrencyDesc") String countryCurrencyDesc,
+            @Param("recordDate") LocalDate recordDate,
+            @Param("currency") String currency,
+            @Param("exchangeRate") BigDecimal exchangeRate);
+}
@@ -0,0 +1,57 @@
+package com.wex.purchasetransaction.transaction.treasury.repository.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "exchange_rates")
+@IdClass(ExchangeRateId.class)
+public class ExchangeRate {
+
+    @Id
+    @Column(name = "country_currency_desc", length = 100)
+    private String countryCurrencyDesc;
+
+    @Id
+    @Column(name = "record_date")
+    private LocalDate recordDate;
+
+    @Column(nullable = false, length = 50)
+    private String currency;
+
+    @Column(name = "exchange_rate", nullable = false, precision = 18, scale = 6)
+    private BigDecimal exchangeRate;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+
+    public ExchangeRate() {
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    public ExchangeRate(String countryCurrencyDesc, LocalDate recordDate, String currency, BigDecimal exchangeRate) {
+        this();
+        this.countryCurrencyDesc = countryCurrencyDesc;
+        this.recordDate = recordDate;
+        this.currency = currency;
+        this.exchangeRate = exchangeRate;
+    }
+
+    public String getCountryCurrencyDesc() { return countryCurrencyDesc; }
+    public void setCountryCurrencyDesc(String countryCurrencyDesc) { this.countryCurrencyDesc = countryCurrencyDesc; }
+
+    public LocalDate getRecordDate() { return recordDate; }
+    public void setRecordDate(LocalDate recordDate) { this.recordDate = recordDate; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public BigDecimal getExchangeRate() { return exchangeRate; }
+    public void setExchangeRate(BigDecimal exchangeRate) { this.exchangeRate = exchangeRate; }
+
+    public LocalDateTime getSyncedAt() { return syncedAt; }
+    public void setSyncedAt(LocalDateTime syncedAt) { this.syncedAt = syncedAt; }
+}
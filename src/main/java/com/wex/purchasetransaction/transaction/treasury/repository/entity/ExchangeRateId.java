@@ -0,0 +1,32 @@
+package com.wex.purchasetransaction.transaction.treasury.repository.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class ExchangeRateId implements Serializable {
+
+    private String countryCurrencyDesc;
+    private LocalDate recordDate;
+
+    public ExchangeRateId() {
+    }
+
+    public ExchangeRateId(String countryCurrencyDesc, LocalDate recordDate) {
+        this.countryCurrencyDesc = countryCurrencyDesc;
+        this.recordDate = recordDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ExchangeRateId that)) return false;
+        return Objects.equals(countryCurrencyDesc, that.countryCurrencyDesc)
+                && Objects.equals(recordDate, that.recordDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(countryCurrencyDesc, recordDate);
+    }
+}
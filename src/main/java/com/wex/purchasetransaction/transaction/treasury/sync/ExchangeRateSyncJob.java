@@ -0,0 +1,120 @@
+package com.wex.purchasetransaction.transaction.treasury.sync;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.client.TreasuryRestClient;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryResponse;
+import com.wex.purchasetransaction.transaction.treasury.repository.ExchangeRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Mirrors the Treasury {@code rates_of_exchange} dataset into the local {@code exchange_rates} table.
+ * <p>
+ * Each run resumes from the latest {@code record_date} already stored (inclusive, so late additions
+ * for that date are picked up) and pages through everything newer, upserting one page per transaction.
+ */
+@Component
+@ConditionalOnProperty(prefix = "treasury.exchange-rate.sync", name = "enabled", havingValue = "true")
+public class ExchangeRateSyncJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ExchangeRateSyncJob.class);
+
+    private final TreasuryRestClient restClient;
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TreasuryProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile boolean completed;
+
+    public ExchangeRateSyncJob(
+            TreasuryRestClient restClient,
+            ExchangeRateRepository exchangeRateRepository,
+            TransactionTemplate transactionTemplate,
+            TreasuryProperties properties,
+            ApplicationEventPublisher eventPublisher) {
+        this.restClient = restClient;
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(
+            initialDelayString = "${treasury.exchange-rate.sync.initial-delay:PT5S}",
+            fixedDelayString = "${treasury.exchange-rate.sync.interval:PT6H}"
+    )
+    public void scheduledSync() {
+        try {
+            sync();
+        } catch (RuntimeException ex) {
+            log.error("Exchange rate sync failed", ex);
+        }
+    }
+
+    public int sync() {
+        LocalDate resumeFrom = exchangeRateRepository.findLatestRecordDate().orElse(null);
+        String filter = resumeFrom == null ? null : "record_date:gte:%s".formatted(resumeFrom);
+        int pageSize = properties.getSync().getPageSize();
+
+        log.info("Exchange rate sync started [resumeFrom={}]", resumeFrom);
+
+        Set<String> currencies = new HashSet<>();
+        int synced = 0;
+        int pageNumber = 1;
+        int totalPages;
+
+        do {
+            TreasuryResponse response = restClient.fetchRatesPage(filter, pageNumber, pageSize);
+
+            if (response == null || response.data() == null || response.data().isEmpty()) {
+                break;
+            }
+
+            upsertPage(response.data());
+            response.data().forEach(rate -> currencies.add(rate.currency()));
+            synced += response.data().size();
+
+            totalPages = response.meta() != null
+                    ? response.meta().totalPages()
+                    : (response.data().size() < pageSize ? pageNumber : pageNumber + 1);
+            pageNumber++;
+        } while (pageNumber <= totalPages);
+
+        log.info("Exchange rate sync finished [resumeFrom={}, rows={}]", resumeFrom, synced);
+        completed = true;
+
+        if (!currencies.isEmpty()) {
+            eventPublisher.publishEvent(new ExchangeRatesSyncedEvent(currencies));
+        }
+        return synced;
+    }
+
+    /**
+     * Whether a sync run has paged through to the end since startup, so the local table is known to be current.
+     */
+    public boolean hasCompleted() {
+        return completed;
+    }
+
+    private void upsertPage(List<TreasuryRate> rates) {
+        transactionTemplate.executeWithoutResult(status -> rates.forEach(rate ->
+                exchangeRateRepository.upsert(
+                        rate.countryCurrencyDesc(),
+                        rate.recordDate(),
+                        rate.currency(),
+                        rate.exchangeRate()
+                )
+        ));
+    }
+}
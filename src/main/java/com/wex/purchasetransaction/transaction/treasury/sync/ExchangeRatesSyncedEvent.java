@@ -0,0 +1,8 @@
+package com.wex.purchasetransaction.transaction.treasury.sync;
+
+import java.util.Set;
+
+/**
+ * Published after a sync run stored rates for the given currencies.
+ */
+public record ExchangeRatesSyncedEvent(Set<String> currencies) {}
@@ -0,0 +1,11 @@
+-- Create Exchange Rates Table (local copy of the Treasury rates_of_exchange dataset)
+CREATE TABLE exchange_rates (
+    country_currency_desc VARCHAR(100) NOT NULL,
+    record_date DATE NOT NULL,
+    currency VARCHAR(50) NOT NULL,
+    exchange_rate NUMERIC(18,6) NOT NULL,
+    synced_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (country_currency_desc, record_date)
+);
+
+CREATE INDEX idx_exchange_rates_currency_record_date ON exchange_rates (currency, record_date);
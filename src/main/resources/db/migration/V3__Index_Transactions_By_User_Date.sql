@@ -0,0 +1,3 @@
+-- Supports date-range scans of a user's transactions (converted transaction export)
+CREATE INDEX idx_purchase_transactions_user_date
+    ON purchase_transactions (user_id, transaction_date);
@@ -0,0 +1,22 @@
+-- Store transaction ids as 16-byte BLOBs instead of 36-character strings, in a table clustered on the id.
+-- New ids are time-ordered (UUIDv7), so inserts append to the right edge of the table B-tree.
+CREATE TABLE purchase_transactions_new (
+    id BLOB NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    description VARCHAR(50) NOT NULL,
+    transaction_date DATE NOT NULL,
+    amount_usd NUMERIC(10,2) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+) WITHOUT ROWID;
+
+INSERT INTO purchase_transactions_new (id, user_id, description, transaction_date, amount_usd, created_at)
+SELECT unhex(replace(id, '-', '')), user_id, description, transaction_date, amount_usd, created_at
+FROM purchase_transactions;
+
+DROP TABLE purchase_transactions;
+
+ALTER TABLE purchase_transactions_new RENAME TO purchase_transactions;
+
+CREATE INDEX idx_purchase_transactions_user_date
+    ON purchase_transactions (user_id, transaction_date);
@@ -0,0 +1,5 @@
+-- Serves keyset pagination over (transaction_date, id) for one user; supersedes the (user_id, transaction_date) index
+DROP INDEX idx_purchase_transactions_user_date;
+
+CREATE INDEX idx_purchase_transactions_user_date_id
+    ON purchase_transactions (user_id, transaction_date, id);
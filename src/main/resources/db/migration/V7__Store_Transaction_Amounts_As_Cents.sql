@@ -0,0 +1,21 @@
+-- Store USD amounts as integer cents instead of NUMERIC(10,2), which SQLite keeps as floating point
+CREATE TABLE purchase_transactions_new (
+    id BLOB NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    description VARCHAR(50) NOT NULL,
+    transaction_date DATE NOT NULL,
+    amount_usd_cents BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+) WITHOUT ROWID;
+
+INSERT INTO purchase_transactions_new (id, user_id, description, transaction_date, amount_usd_cents, created_at)
+SELECT id, user_id, description, transaction_date, CAST(ROUND(amount_usd * 100) AS INTEGER), created_at
+FROM purchase_transactions;
+
+DROP TABLE purchase_transactions;
+
+ALTER TABLE purchase_transactions_new RENAME TO purchase_transactions;
+
+CREATE INDEX idx_purchase_transactions_user_date_id
+    ON purchase_transactions (user_id, transaction_date, id);
@@ -0,0 +1,126 @@
+package com.wex.purchasetransaction.config.datasource;
+
+import com.wex.purchasetransaction.auth.repository.UserRepository;
+import com.wex.purchasetransaction.transaction.treasury.repository.ExchangeRateRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "treasury.exchange-rate.sync.enabled=false")
+class SqliteDataSourceConfigTest {
+
+    private static final String NO_OP_DELETE = "delete from api_tokens where token = 'does-not-exist'";
+
+    @Autowired
+    @Qualifier(SqliteDataSourceConfig.WRITER_DATA_SOURCE)
+    private HikariDataSource writer;
+
+    @Autowired
+    @Qualifier(SqliteDataSourceConfig.READER_DATA_SOURCE)
+    private HikariDataSource reader;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldOpenWriterInWalModeWithSingleConnection() throws SQLException {
+        assertEquals("wal", pragma(writer, "journal_mode"));
+        assertEquals("1", pragma(writer, "synchronous")); // NORMAL
+        assertEquals(1, writer.getMaximumPoolSize());
+    }
+
+    @Test
+    void shouldOpenReadersReadOnlyWithMmap() throws SQLException {
+        assertEquals("wal", pragma(reader, "journal_mode"));
+        assertEquals(String.valueOf(256L * 1024 * 1024), pragma(reader, "mmap_size"));
+        assertTrue(reader.getMaximumPoolSize() > 1);
+
+        try (Connection connection = reader.getConnection(); Statement statement = connection.createStatement()) {
+            SQLException ex = assertThrows(SQLException.class, () -> statement.executeUpdate(NO_OP_DELETE));
+            assertTrue(ex.getMessage().contains("readonly"), ex.getMessage());
+        }
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReaderPool() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        PersistenceException ex = assertThrows(PersistenceException.class, () -> readOnly.executeWithoutResult(status ->
+                entityManager.createNativeQuery(NO_OP_DELETE).executeUpdate()));
+        assertTrue(rootMessage(ex).contains("readonly"), rootMessage(ex));
+    }
+
+    @Test
+    void shouldRouteReadWriteTransactionsToWriterPool() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        int deleted = readWrite.execute(status -> entityManager.createNativeQuery(NO_OP_DELETE).executeUpdate());
+
+        assertEquals(0, deleted);
+    }
+
+    @Test
+    void shouldRouteDeclaredRepositoryReadsToReaderPool() {
+        long readerBorrows = connectionBorrows("sqlite-reader");
+        long writerBorrows = connectionBorrows("sqlite-writer");
+
+        userRepository.findByUsername("does-not-exist");
+        exchangeRateRepository.findAllOrdered();
+        exchangeRateRepository.findByCurrencyInOrdered(List.of("Euro"));
+        exchangeRateRepository.findLatestRecordDate();
+
+        assertEquals(readerBorrows + 4, connectionBorrows("sqlite-reader"));
+        assertEquals(writerBorrows, connectionBorrows("sqlite-writer"));
+    }
+
+    private long connectionBorrows(String pool) {
+        return meterRegistry.get("hikaricp.connections.usage").tag("pool", pool).timer().count();
+    }
+
+    private static String pragma(HikariDataSource dataSource, String name) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("PRAGMA " + name)) {
+            result.next();
+            return result.getString(1);
+        }
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable root = ex;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return String.valueOf(root.getMessage());
+    }
+}
@@ -0,0 +1,138 @@
+package com.wex.purchasetransaction.config.jfr;
+
+import com.wex.purchasetransaction.config.properties.JfrProperties;
+import com.wex.purchasetransaction.config.web.CorrelationIdFilter;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrRecordingEndpointTest {
+
+    private JfrProperties properties;
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JfrProperties();
+        properties.setMaxDuration(Duration.ofMinutes(1));
+        endpoint = new JfrRecordingEndpoint(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+        MDC.clear();
+    }
+
+    @Test
+    void shouldReportNoRecordingBeforeStart() {
+        assertEquals(Map.of("state", "NONE"), endpoint.status());
+    }
+
+    @Test
+    void shouldCapRequestedDurationAtMaximum() {
+        WebEndpointResponse<Map<String, Object>> response = endpoint.startFor(Duration.ofHours(1));
+
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        assertEquals("PT1M", response.getBody().get("duration"));
+        assertEquals(properties.getMaxSize().toBytes(), response.getBody().get("maxSize"));
+    }
+
+    @Test
+    void shouldUseDefaultDurationWhenNoneIsGiven() {
+        properties.setDefaultDuration(Duration.ofSeconds(30));
+
+        assertEquals("PT30S", endpoint.start().getBody().get("duration"));
+    }
+
+    @Test
+    void shouldRejectSecondRecordingWhileOneIsRunning() {
+        long id = (long) endpoint.start().getBody().get("id");
+
+        WebEndpointResponse<Map<String, Object>> response = endpoint.start();
+
+        assertEquals(HttpStatus.CONFLICT.value(), response.getStatus());
+        assertEquals(id, response.getBody().get("id"));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownRecording() {
+        endpoint.start();
+
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.dump(-1).getStatus());
+    }
+
+    @Test
+    void shouldDumpEventsTaggedWithCorrelationId() throws Exception {
+        long id = (long) endpoint.start().getBody().get("id");
+
+        MDC.put(CorrelationIdFilter.CORRELATION_ID_KEY, "corr-123");
+        RepositoryCallEvent repositoryCall = new RepositoryCallEvent();
+        repositoryCall.begin();
+        repositoryCall.complete("TransactionRepository", "findByIdAndUserId", true);
+
+        TokenLookupEvent tokenLookup = new TokenLookupEvent();
+        tokenLookup.begin();
+        tokenLookup.complete(false);
+
+        WebEndpointResponse<Resource> response = endpoint.dump(id);
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+
+        List<RecordedEvent> events = read(response.getBody());
+
+        RecordedEvent recordedCall = only(events, "com.wex.RepositoryCall");
+        assertEquals("corr-123", recordedCall.getString("correlationId"));
+        assertEquals("findByIdAndUserId", recordedCall.getString("method"));
+        assertTrue(recordedCall.getBoolean("found"));
+
+        RecordedEvent recordedLookup = only(events, "com.wex.TokenLookup");
+        assertEquals("corr-123", recordedLookup.getString("correlationId"));
+        assertFalse(recordedLookup.getBoolean("found"));
+
+        assertTrue(events.stream().noneMatch(event ->
+                JfrRecordingEndpoint.REDACTED_EVENTS.contains(event.getEventType().getName())));
+
+        assertFalse(response.getBody().exists(), "dump file should be deleted once read");
+    }
+
+    private static List<RecordedEvent> read(Resource resource) throws Exception {
+        Path copy = Files.createTempFile("jfr-endpoint-test-", ".jfr");
+
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        try {
+            return RecordingFile.readAllEvents(copy);
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
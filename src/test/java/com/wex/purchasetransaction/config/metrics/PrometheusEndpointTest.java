@@ -0,0 +1,40 @@
+package com.wex.purchasetransaction.config.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "treasury.exchange-rate.sync.enabled=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldRejectAnonymousScrapes() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldExposeServiceMetricsInPrometheusFormatToAuthenticatedScrapers() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user("prometheus").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("rate_limit_buckets")))
+                .andExpect(content().string(containsString("rate_limit_rejections_total")))
+                .andExpect(content().string(containsString("auth_token_lookup_seconds_count")))
+                .andExpect(content().string(containsString("application=\"purchasetransaction\"")));
+    }
+}
@@ -0,0 +1,47 @@
+package com.wex.purchasetransaction.config.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "treasury.exchange-rate.sync.enabled=false",
+        "management.endpoints.web.exposure.include=health,treasury,jfr"
+})
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldForbidOperationalEndpointsToRegularUsers() throws Exception {
+        mockMvc.perform(get("/actuator/jfr").with(user("alice").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/treasury").with(user("alice").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldAllowOperationalEndpointsToAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/jfr").with(user("root").roles("ADMIN")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/treasury").with(user("root").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldStartRecordingForTheDurationInThePath() throws Exception {
+        mockMvc.perform(post("/actuator/jfr/PT1S").with(user("root").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.duration").value("PT1S"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.wex.purchasetransaction.config.web;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreasuryHttpClientConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RestClientAutoConfiguration.class))
+            .withUserConfiguration(TreasuryHttpClientConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void shouldCloseTheApacheConnectionPoolWithTheContext() {
+        AtomicReference<PoolingHttpClientConnectionManager> connectionManager = new AtomicReference<>();
+
+        contextRunner
+                .withBean(TreasuryProperties.class)
+                .run(context -> {
+                    assertTrue(context.containsBean("treasuryHttpClient"));
+                    connectionManager.set(context.getBean(PoolingHttpClientConnectionManager.class));
+                });
+
+        HttpRoute route = new HttpRoute(new HttpHost("localhost", 80));
+
+        assertThrows(IllegalStateException.class, () -> connectionManager.get()
+                .lease("closed", route, Timeout.ofSeconds(1), null)
+                .get(Timeout.ofSeconds(1)));
+    }
+
+    @Test
+    void shouldNotCreateTheApacheClientForTheJdkTransport() {
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.getHttp().setClient(TreasuryProperties.Http.Client.JDK);
+
+        contextRunner
+                .withBean(TreasuryProperties.class, () -> properties)
+                .withPropertyValues("treasury.exchange-rate.http.client=jdk")
+                .run(context -> {
+                    assertFalse(context.containsBean("treasuryConnectionManager"));
+                    assertTrue(context.getBeansOfType(CloseableHttpClient.class).isEmpty());
+                    assertInstanceOf(JdkClientHttpRequestFactory.class, context.getBean(ClientHttpRequestFactory.class));
+                });
+    }
+}
@@ -0,0 +1,80 @@
+package com.wex.purchasetransaction.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects per-request latencies and status codes for one load phase and renders a summary line.
+ */
+final class LatencyRecorder {
+
+    private final String phase;
+    private final AtomicLongArray latencies;
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+    private long startNanos;
+    private long endNanos;
+
+    LatencyRecorder(String phase, int capacity) {
+        this.phase = phase;
+        this.latencies = new AtomicLongArray(capacity);
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    void record(int status, long latencyNanos) {
+        latencies.set(recorded.getAndIncrement(), latencyNanos);
+        statuses.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+    }
+
+    int count() {
+        return recorded.get();
+    }
+
+    int failures() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 300)
+                .mapToInt(entry -> entry.getValue().get())
+                .sum();
+    }
+
+    double throughput() {
+        double seconds = (endNanos - startNanos) / 1_000_000_000.0;
+        return seconds == 0 ? 0 : count() / seconds;
+    }
+
+    Duration percentile(double percentile) {
+        long[] sorted = new long[count()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, index)]);
+    }
+
+    String summary() {
+        return "%-10s requests=%d failures=%d throughput=%.1f req/s p50=%dms p90=%dms p99=%dms max=%dms statuses=%s"
+                .formatted(
+                        phase, count(), failures(), throughput(),
+                        percentile(50).toMillis(), percentile(90).toMillis(),
+                        percentile(99).toMillis(), percentile(100).toMillis(),
+                        new TreeMap<>(statuses)
+                );
+    }
+}
@@ -0,0 +1,217 @@
+package com.wex.purchasetransaction.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wex.purchasetransaction.simulator.TreasurySimulatorController;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load harness: boots the application against the offline Treasury simulator, registers a few
+ * users and drives {@code /api/v1/transactions} over real HTTP with a fixed number of concurrent clients,
+ * then logs throughput and latency percentiles per phase.
+ * <p>
+ * Excluded from the default build; run it with {@code mvn test -Pload-test}. Size the run with system
+ * properties ({@code load.users}, {@code load.transactions}, {@code load.conversions},
+ * {@code load.concurrency}, {@code load.max-error-rate}) and inject Treasury faults with the usual
+ * {@code simulator.treasury.*} properties.
+ */
+@Tag("load")
+@ActiveProfiles(TreasurySimulatorController.PROFILE)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+class TransactionLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionLoadTest.class);
+
+    private static final int PORT = freePort();
+    private static final List<String> CURRENCIES = List.of(
+            "Euro", "Yen", "Pound", "Real", "Peso", "Rupee", "Franc", "Renminbi", "Rand", "Won"
+    );
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 7, 1);
+    private static final LocalDate LAST_DATE = LocalDate.of(2025, 12, 31);
+
+    private final int users = Integer.getInteger("load.users", 4);
+    private final int transactions = Integer.getInteger("load.transactions", 400);
+    private final int conversions = Integer.getInteger("load.conversions", 4000);
+    private final int concurrency = Integer.getInteger("load.concurrency", 32);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void loadTestProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path database = Files.createTempFile("wex-load-test", ".db");
+        database.toFile().deleteOnExit();
+
+        registry.add("server.port", () -> PORT);
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+        registry.add("spring.jpa.show-sql", () -> false);
+        registry.add("treasury.exchange-rate.sync.enabled", () -> false);
+    }
+
+    @Test
+    void shouldReportThroughputAndLatencyPercentiles() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            tokens.add(registerAndLogin("load-user-" + UUID.randomUUID()));
+        }
+
+        List<String> ids = new ArrayList<>(transactions);
+        List<String> owners = new ArrayList<>(transactions);
+
+        LatencyRecorder create = run("create", transactions, i -> {
+            String token = tokens.get(i % tokens.size());
+            Map<String, Object> body = Map.of(
+                    "description", "Load test purchase " + i,
+                    "transactionDate", randomDate().toString(),
+                    "purchaseAmountUsd", BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(1, 100_000), 2)
+            );
+
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/v1/transactions"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build());
+
+            if (response.statusCode() == 201) {
+                synchronized (ids) {
+                    ids.add(objectMapper.readTree(response.body()).get("id").asText());
+                    owners.add(token);
+                }
+            }
+            return response.statusCode();
+        });
+
+        assertFalse(ids.isEmpty(), "no transaction was created");
+
+        LatencyRecorder convert = run("convert", conversions, i -> {
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            String currency = CURRENCIES.get(ThreadLocalRandom.current().nextInt(CURRENCIES.size()));
+
+            return send(HttpRequest.newBuilder(uri(
+                            "/api/v1/transactions/%s/converted?targetCurrency=%s".formatted(ids.get(index), currency)))
+                    .header("Authorization", "Bearer " + owners.get(index))
+                    .GET()
+                    .build()).statusCode();
+        });
+
+        log.info("Load test finished [users={}, concurrency={}]", users, concurrency);
+        log.info(create.summary());
+        log.info(convert.summary());
+
+        assertTrue(
+                convert.failures() <= maxErrorRate * convert.count(),
+                () -> "conversion error rate above %s: %s".formatted(maxErrorRate, convert.summary())
+        );
+    }
+
+    /**
+     * Runs {@code requests} calls from {@code concurrency} virtual threads in a closed loop: each client sends its
+     * next request as soon as the previous one completes.
+     */
+    private LatencyRecorder run(String phase, int requests, LoadCall call) {
+        LatencyRecorder recorder = new LatencyRecorder(phase, requests);
+        AtomicInteger next = new AtomicInteger();
+
+        recorder.start();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = call.apply(i);
+                        } catch (Exception ex) {
+                            status = 0;
+                        }
+                        recorder.record(status, System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+        recorder.stop();
+
+        return recorder;
+    }
+
+    private String registerAndLogin(String username) throws Exception {
+        String credentials = objectMapper.writeValueAsString(Map.of("username", username, "password", "load-test-pass"));
+
+        send(HttpRequest.newBuilder(uri("/api/v1/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials))
+                .build());
+
+        HttpResponse<String> login = send(HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials))
+                .build());
+
+        JsonNode body = objectMapper.readTree(login.body());
+        return body.get("token").asText();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost:" + PORT + path);
+    }
+
+    private static LocalDate randomDate() {
+        return FIRST_DATE.plusDays(ThreadLocalRandom.current().nextLong(ChronoUnit.DAYS.between(FIRST_DATE, LAST_DATE) + 1));
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface LoadCall {
+        int apply(int index) throws Exception;
+    }
+}
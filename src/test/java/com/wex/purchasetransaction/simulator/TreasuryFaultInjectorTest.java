@@ -0,0 +1,61 @@
+package com.wex.purchasetransaction.simulator;
+
+import com.wex.purchasetransaction.config.properties.TreasurySimulatorProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TreasuryFaultInjectorTest {
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private TreasurySimulatorProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TreasurySimulatorProperties();
+        properties.setLatency(Duration.ofMillis(40));
+        properties.setLatencyJitter(Duration.ofMillis(20));
+        properties.setErrorRate(0.1);
+        properties.setTimeoutRate(0.2);
+        properties.setTimeoutDelay(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void shouldAddJitteredLatencyToHealthyResponses() throws InterruptedException {
+        assertEquals(TreasuryFaultInjector.Fault.NONE, injector(0.5, 0.9).next());
+        assertEquals(List.of(50L), sleeps);
+    }
+
+    @Test
+    void shouldFailWithinErrorRate() throws InterruptedException {
+        assertEquals(TreasuryFaultInjector.Fault.ERROR, injector(0.0, 0.05).next());
+        assertEquals(List.of(40L), sleeps);
+    }
+
+    @Test
+    void shouldHangForTimeoutDelayWithinTimeoutRate() throws InterruptedException {
+        assertEquals(TreasuryFaultInjector.Fault.TIMEOUT, injector(1.0, 0.25).next());
+        assertEquals(List.of(60L, 15_000L), sleeps);
+    }
+
+    @Test
+    void shouldNotSleepWhenLatencyIsDisabled() throws InterruptedException {
+        properties.setLatency(Duration.ZERO);
+        properties.setLatencyJitter(Duration.ZERO);
+
+        assertEquals(TreasuryFaultInjector.Fault.NONE, injector(0.5, 0.5).next());
+        assertEquals(List.of(), sleeps);
+    }
+
+    private TreasuryFaultInjector injector(double... rolls) {
+        Iterator<Double> values = Arrays.stream(rolls).boxed().iterator();
+        return new TreasuryFaultInjector(properties, sleeps::add, values::next);
+    }
+}
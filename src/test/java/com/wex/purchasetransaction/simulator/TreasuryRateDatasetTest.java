@@ -0,0 +1,63 @@
+package com.wex.purchasetransaction.simulator;
+
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreasuryRateDatasetTest {
+
+    private final TreasuryRateDataset dataset =
+            new TreasuryRateDataset(new ClassPathResource("simulator/rates_of_exchange.csv"));
+
+    @Test
+    void shouldFilterSortAndProjectLikeFiscalData() {
+        List<Map<String, String>> rows = dataset.query(
+                "currency:in:(Euro,Yen),record_date:gte:2024-01-01,record_date:lte:2024-06-30",
+                "currency,record_date",
+                "record_date,currency,exchange_rate"
+        );
+
+        assertEquals(4, rows.size());
+        assertEquals(List.of("record_date", "currency", "exchange_rate"), List.copyOf(rows.getFirst().keySet()));
+        assertEquals("Euro", rows.get(0).get("currency"));
+        assertEquals("2024-03-31", rows.get(0).get("record_date"));
+        assertEquals("2024-06-30", rows.get(1).get("record_date"));
+        assertEquals("Yen", rows.get(3).get("currency"));
+    }
+
+    @Test
+    void shouldReturnLatestPublicationFirstWhenSortedDescending() {
+        List<Map<String, String>> rows = dataset.query(
+                "currency:eq:Euro,record_date:lte:2024-02-15,record_date:gte:2023-08-15",
+                "-record_date",
+                null
+        );
+
+        assertEquals(2, rows.size());
+        assertEquals("2023-12-31", rows.getFirst().get("record_date"));
+        assertEquals("Euro Zone-Euro", rows.getFirst().get("country_currency_desc"));
+        assertEquals("2024", rows.getFirst().get("record_fiscal_year"));
+        assertEquals("1", rows.getFirst().get("record_fiscal_quarter"));
+        assertEquals("4", rows.getFirst().get("record_calendar_quarter"));
+    }
+
+    @Test
+    void shouldCompareExchangeRatesNumerically() {
+        List<Map<String, String>> rows = dataset.query("currency:eq:Yen,exchange_rate:gt:150", "exchange_rate", null);
+
+        assertFalse(rows.isEmpty());
+        assertTrue(rows.stream().allMatch(row -> Double.parseDouble(row.get("exchange_rate")) > 150));
+    }
+
+    @Test
+    void shouldRejectUnknownFieldsAndOperators() {
+        assertThrows(InvalidRequestException.class, () -> dataset.query("currency:like:Euro", null, null));
+        assertThrows(InvalidRequestException.class, () -> dataset.query(null, "-unknown", null));
+        assertThrows(InvalidRequestException.class, () -> dataset.query(null, null, "record_date,rate"));
+    }
+}
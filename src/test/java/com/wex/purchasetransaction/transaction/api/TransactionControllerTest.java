@@ -2,10 +2,25 @@ package com.wex.purchasetransaction.transaction.api;
 
 import com.wex.purchasetransaction.config.web.RateLimitFilter;
 import com.wex.purchasetransaction.config.web.TokenAuthenticationFilter;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionBatchItemResult;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionBatchResponse;
 import com.wex.purchasetransaction.transaction.api.dto.TransactionCreatedResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionImportResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionImportRowError;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionPageResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionSummary;
 import com.wex.purchasetransaction.transaction.api.dto.TransactionRequest;
 import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+import com.wex.purchasetransaction.transaction.api.dto.CurrencyConversion;
+import com.wex.purchasetransaction.transaction.repository.TransactionImport;
 import com.wex.purchasetransaction.transaction.service.TransactionService;
+import com.wex.purchasetransaction.transaction.service.batch.TransactionBatchService;
+import com.wex.purchasetransaction.transaction.service.export.ExportFormat;
+import com.wex.purchasetransaction.transaction.service.export.TransactionExportService;
+import com.wex.purchasetransaction.transaction.service.importer.ImportFormat;
+import com.wex.purchasetransaction.transaction.service.importer.TransactionImportService;
+import com.wex.purchasetransaction.transaction.service.listing.TransactionListingService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,17 +29,29 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -43,6 +70,18 @@ class TransactionControllerTest {
     @MockBean
     private TransactionService transactionService;
 
+    @MockBean
+    private TransactionExportService transactionExportService;
+
+    @MockBean
+    private TransactionBatchService transactionBatchService;
+
+    @MockBean
+    private TransactionImportService transactionImportService;
+
+    @MockBean
+    private TransactionListingService transactionListingService;
+
     @Test
     @WithMockUser(roles = "USER")
     void shouldStoreTransaction() throws Exception {
@@ -72,6 +111,125 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.purchaseAmountUsd").value(10.13));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldStoreTransactionBatchWithPerItemResults() throws Exception {
+        when(transactionBatchService.storeTransactions(any()))
+                .thenReturn(new TransactionBatchResponse(1, 1, List.of(
+                        TransactionBatchItemResult.created(0, "tx-1"),
+                        TransactionBatchItemResult.rejected(1, Map.of("description", "Description is required"))
+                )));
+
+        mockMvc.perform(post("/api/v1/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                {
+                  "transactions": [
+                    {"description": "Office Supplies", "transactionDate": "2024-01-10", "purchaseAmountUsd": 10.13},
+                    {"description": "", "transactionDate": "2024-01-11", "purchaseAmountUsd": 5.00}
+                  ]
+                }
+                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[0].id").value("tx-1"))
+                .andExpect(jsonPath("$.items[0].errors").doesNotExist())
+                .andExpect(jsonPath("$.items[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[1].errors.description").value("Description is required"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldRejectEmptyTransactionBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transactions\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.transactions").value("At least one transaction is required"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldListTransactionsPage() throws Exception {
+        when(transactionListingService.listTransactions(
+                LocalDate.of(2024, 1, 1), null, new BigDecimal("10"), null, "abc", 2))
+                .thenReturn(new TransactionPageResponse(
+                        List.of(new TransactionSummary("tx-1", "Lunch", LocalDate.of(2024, 1, 5), new BigDecimal("12.50"))),
+                        "next"
+                ));
+
+        mockMvc.perform(get("/api/v1/transactions")
+                        .param("from", "2024-01-01")
+                        .param("minAmount", "10")
+                        .param("cursor", "abc")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("tx-1"))
+                .andExpect(jsonPath("$.items[0].purchaseAmountUsd").value(12.50))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldRejectOversizedListingLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/transactions").param("limit", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldReportInvalidListingCursorAsBadRequest() throws Exception {
+        when(transactionListingService.listTransactions(any(), any(), any(), any(), eq("abc"), eq(50)))
+                .thenThrow(new InvalidRequestException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/v1/transactions").param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldNotExposeUnexpectedIllegalArgumentMessages() throws Exception {
+        when(transactionListingService.listTransactions(any(), any(), any(), any(), any(), eq(50)))
+                .thenThrow(new IllegalArgumentException("internal detail"));
+
+        mockMvc.perform(get("/api/v1/transactions"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldImportTransactionFileWithFormatInferredFromName() throws Exception {
+        when(transactionImportService.importTransactions(eq("import-1"), eq(ImportFormat.CSV), any()))
+                .thenReturn(new TransactionImportResponse(
+                        "import-1", TransactionImport.Status.COMPLETED, 2, 1, 1, 0, 5, 400,
+                        List.of(new TransactionImportRowError(2, Map.of("description", "Description is required")))
+                ));
+
+        MockMultipartFile file = new MockMultipartFile("file", "transactions.csv", "text/csv",
+                "description,transactionDate,purchaseAmountUsd\nLunch,2024-01-10,10.13\n,2024-01-11,5.00\n".getBytes());
+
+        mockMvc.perform(multipart("/api/v1/transactions/import").file(file).param("importId", "import-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[0].errors.description").value("Description is required"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldRejectImportOfUnknownFormat() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "transactions.xlsx", "application/octet-stream", new byte[0]);
+
+        mockMvc.perform(multipart("/api/v1/transactions/import").file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cannot infer the file format; pass 'format'"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void shouldRetrieveConvertedTransaction() throws Exception {
@@ -93,5 +251,75 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.convertedAmount").value(90.00))
                 .andExpect(jsonPath("$.targetCurrency").value("Euro"));
     }
-}
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldRetrieveTransactionConvertedToSeveralCurrencies() throws Exception {
+        when(transactionService.retrieveConvertedTransaction("tx-123", List.of("Euro", "Yen")))
+                .thenReturn(new ConvertedTransactionResponse(
+                        "tx-123",
+                        "Laptop",
+                        LocalDate.of(2024, 1, 1),
+                        new BigDecimal("100.00"),
+                        List.of(
+                                new CurrencyConversion("Euro", new BigDecimal("0.9"), new BigDecimal("90.00")),
+                                new CurrencyConversion("Yen", new BigDecimal("141.5"), new BigDecimal("14150.00"))
+                        )
+                ));
+
+        mockMvc.perform(get("/api/v1/transactions/tx-123/converted")
+                        .param("targetCurrencies", "Euro,Yen"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("tx-123"))
+                .andExpect(jsonPath("$.targetCurrency").doesNotExist())
+                .andExpect(jsonPath("$.conversions[0].targetCurrency").value("Euro"))
+                .andExpect(jsonPath("$.conversions[1].convertedAmount").value(14150.00));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldRejectTooManyTargetCurrencies() throws Exception {
+        String currencies = String.join(",", Collections.nCopies(21, "Euro"));
+
+        mockMvc.perform(get("/api/v1/transactions/tx-123/converted")
+                        .param("targetCurrencies", currencies))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.targetCurrencies").value("At most 20 target currencies are allowed"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldStreamConvertedTransactionsExport() throws Exception {
+        StreamingResponseBody body = out -> out.write("id,description\r\n".getBytes());
+
+        when(transactionExportService.exportConvertedTransactions(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), "Euro", ExportFormat.CSV))
+                .thenReturn(body);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/transactions/export")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-12-31")
+                        .param("targetCurrency", "Euro")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions-2024-01-01-2024-12-31.csv\""))
+                .andExpect(content().string("id,description\r\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldRejectUnknownExportFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/transactions/export")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-12-31")
+                        .param("targetCurrency", "Euro")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value for parameter 'format'"));
+    }
+}
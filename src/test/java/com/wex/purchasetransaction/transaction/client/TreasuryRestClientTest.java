@@ -1,25 +1,39 @@
 package com.wex.purchasetransaction.transaction.client;
 
 import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.config.properties.TreasuryRetryProperties;
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryCallGuard;
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryRetryExecutor;
 import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
 import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
-@SpringBootTest
+@SpringBootTest(properties = "treasury.exchange-rate.sync.enabled=false")
 class TreasuryRestClientTest {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private MockRestServiceServer mockServer;
     private TreasuryRestClient treasuryRestClient;
 
@@ -31,7 +45,15 @@ class TreasuryRestClientTest {
         RestClient.Builder builder = RestClient.builder();
         mockServer = MockRestServiceServer.bindTo(builder).build();
 
-        treasuryRestClient = new TreasuryRestClient(builder, properties);
+        TreasuryRetryProperties retryProperties = new TreasuryRetryProperties();
+        retryProperties.setMaxAttempts(1);
+
+        treasuryRestClient = new TreasuryRestClient(
+                builder,
+                properties,
+                new TreasuryCallGuard(retryProperties, new SimpleMeterRegistry()),
+                new TreasuryRetryExecutor(retryProperties, new SimpleMeterRegistry())
+        );
     }
 
     @Test
@@ -74,4 +96,167 @@ class TreasuryRestClientTest {
         mockServer.verify();
     }
 
+    @Test
+    void shouldFetchRatesPageSortedAscending() {
+        String jsonResponse = """
+            {
+              "data": [
+                {
+                  "record_date": "2024-03-31",
+                  "country_currency_desc": "Euro Zone-Euro",
+                  "currency": "Euro",
+                  "exchange_rate": 0.925
+                }
+              ],
+              "meta": {
+                "total-count": 1,
+                "total-pages": 1
+              }
+            }
+            """;
+
+        mockServer.expect(request -> {
+                    String query = request.getURI().getQuery();
+                    assertTrue(query.contains("filter=record_date:gte:2024-01-01"));
+                    assertTrue(query.contains("sort=record_date,country_currency_desc"));
+                    assertTrue(query.contains("page[number]=2"));
+                    assertTrue(query.contains("page[size]=500"));
+                })
+                .andRespond(withSuccess(jsonResponse, MediaType.APPLICATION_JSON));
+
+        TreasuryResponse response = treasuryRestClient.fetchRatesPage("record_date:gte:2024-01-01", 2, 500);
+
+        assertEquals(1, response.data().size());
+        assertEquals("Euro", response.data().getFirst().currency());
+        assertEquals(1, response.meta().totalPages());
+
+        mockServer.verify();
+    }
+
+    @Test
+    void shouldFetchRatesForSeveralCurrenciesFollowingPagination() {
+        String firstPage = """
+            {
+              "data": [
+                {
+                  "record_date": "2024-03-31",
+                  "country_currency_desc": "Euro Zone-Euro",
+                  "currency": "Euro",
+                  "exchange_rate": "0.925"
+                }
+              ],
+              "meta": {
+                "count": 1,
+                "labels": {"record_date": "Record Date"},
+                "total-count": 2,
+                "total-pages": 2
+              },
+              "links": {"next": "&page%5Bnumber%5D=2"}
+            }
+            """;
+        String secondPage = """
+            {
+              "data": [
+                {
+                  "record_date": "2024-03-31",
+                  "country_currency_desc": "Japan-Yen",
+                  "currency": "Yen",
+                  "exchange_rate": "151.2",
+                  "effective_date": "2024-03-31"
+                }
+              ],
+              "meta": {
+                "total-count": 2,
+                "total-pages": 2
+              }
+            }
+            """;
+
+        mockServer.expect(request -> {
+                    String query = request.getURI().getQuery();
+                    assertTrue(query.contains("filter=currency:in:(Euro,Yen),record_date:gte:2024-01-01,record_date:lte:2024-06-30"));
+                    assertTrue(query.contains("page[number]=1"));
+                })
+                .andRespond(withSuccess(firstPage, MediaType.APPLICATION_JSON));
+        mockServer.expect(request -> assertTrue(request.getURI().getQuery().contains("page[number]=2")))
+                .andRespond(withSuccess(secondPage, MediaType.APPLICATION_JSON));
+
+        List<TreasuryRate> rates = treasuryRestClient.fetchRates(
+                new LinkedHashSet<>(List.of("Euro", "Yen")),
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 6, 30)
+        );
+
+        assertEquals(2, rates.size());
+        assertEquals("Euro", rates.get(0).currency());
+        assertEquals(0, rates.get(0).exchangeRate().compareTo(new BigDecimal("0.925")));
+        assertEquals("Yen", rates.get(1).currency());
+        assertEquals(LocalDate.of(2024, 3, 31), rates.get(1).recordDate());
+
+        mockServer.verify();
+    }
+
+    @Test
+    void shouldKeepOnlyTheRowsOfTheSuccessfulAttemptWhenAPageIsRetried() {
+        String page = """
+            {
+              "data": [
+                {"record_date": "2024-03-31", "country_currency_desc": "Euro Zone-Euro", "currency": "Euro", "exchange_rate": "0.925"},
+                {"record_date": "2024-06-30", "country_currency_desc": "Euro Zone-Euro", "currency": "Euro", "exchange_rate": "0.933"}
+              ],
+              "meta": {"total-pages": 1}
+            }
+            """;
+        String truncated = page.substring(0, page.indexOf("},") + 2);
+
+        TreasuryRetryProperties retryProperties = new TreasuryRetryProperties();
+        retryProperties.setMaxAttempts(2);
+        retryProperties.setDelayMs(0);
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer retryingServer = MockRestServiceServer.bindTo(builder).build();
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.setBaseUrl("http://localhost");
+        TreasuryRestClient retryingClient = new TreasuryRestClient(
+                builder,
+                properties,
+                new TreasuryCallGuard(retryProperties, new SimpleMeterRegistry()),
+                new TreasuryRetryExecutor(retryProperties, new SimpleMeterRegistry())
+        );
+
+        retryingServer.expect(request -> {})
+                .andRespond(withSuccess(truncated, MediaType.APPLICATION_JSON));
+        retryingServer.expect(request -> {})
+                .andRespond(withSuccess(page, MediaType.APPLICATION_JSON));
+
+        List<TreasuryRate> rates = retryingClient.fetchRates(
+                Set.of("Euro"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+
+        assertEquals(2, rates.size());
+        assertEquals(LocalDate.of(2024, 3, 31), rates.get(0).recordDate());
+        assertEquals(LocalDate.of(2024, 6, 30), rates.get(1).recordDate());
+        retryingServer.verify();
+    }
+
+    @Test
+    void shouldRaiseServerErrorFromBatchFetch() {
+        mockServer.expect(request -> {})
+                .andRespond(withServerError());
+
+        assertThrows(
+                HttpServerErrorException.class,
+                () -> treasuryRestClient.fetchRates(Set.of("Euro"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30))
+        );
+    }
+
+    @Test
+    void shouldPublishTreasuryConnectionPoolMetrics() {
+        assertEquals(
+                20.0,
+                meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                        .tag("httpclient", "treasury")
+                        .gauge()
+                        .value()
+        );
+    }
+
 }
@@ -0,0 +1,122 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+import com.wex.purchasetransaction.config.properties.TreasuryRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreasuryCallGuardTest {
+
+    private TreasuryRetryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TreasuryCallGuard callGuard;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TreasuryRetryProperties();
+        properties.getBulkhead().setMaxConcurrentCalls(1);
+        properties.getBulkhead().setMaxWait(Duration.ofMillis(10));
+        properties.getCircuitBreaker().setSlidingWindowSize(2);
+        properties.getCircuitBreaker().setMinimumCalls(2);
+
+        meterRegistry = new SimpleMeterRegistry();
+        callGuard = new TreasuryCallGuard(properties, meterRegistry);
+    }
+
+    @Test
+    void shouldRejectCallsBeyondBulkheadLimit() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> slow = executor.submit(() -> callGuard.call(() -> {
+                started.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TreasuryUnavailableException.class, () -> callGuard.call(() -> "rejected"));
+
+            release.countDown();
+            assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals("next", callGuard.call(() -> "next"));
+        assertEquals(1.0, meterRegistry.get("treasury.calls.rejected").tag("reason", "bulkhead").counter().count());
+        assertEquals(TreasuryCircuitBreaker.State.CLOSED, callGuard.circuitBreaker().state());
+    }
+
+    @Test
+    void shouldFailFastOnceServerErrorsOpenTheCircuit() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(HttpServerErrorException.class, () -> callGuard.call(() -> {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }));
+        }
+
+        assertThrows(TreasuryUnavailableException.class, () -> callGuard.call(() -> fail("should not be called")));
+        assertEquals(TreasuryCircuitBreaker.State.OPEN, callGuard.circuitBreaker().state());
+    }
+
+    @Test
+    void shouldNotCountClientErrorsAsFailures() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(HttpClientErrorException.class, () -> callGuard.call(() -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            }));
+        }
+
+        assertEquals(TreasuryCircuitBreaker.State.CLOSED, callGuard.circuitBreaker().state());
+    }
+
+    @Test
+    void shouldCountThrottlingAsFailure() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(HttpClientErrorException.class, () -> callGuard.call(() -> {
+                throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+            }));
+        }
+
+        assertEquals(TreasuryCircuitBreaker.State.OPEN, callGuard.circuitBreaker().state());
+    }
+
+    @Test
+    void shouldReleaseHalfOpenTrialWhenCallThrowsError() {
+        properties.getCircuitBreaker().setOpenDuration(Duration.ZERO);
+        properties.getCircuitBreaker().setHalfOpenCalls(1);
+        callGuard = new TreasuryCallGuard(properties, meterRegistry);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(HttpServerErrorException.class, () -> callGuard.call(() -> {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }));
+        }
+        assertThrows(StackOverflowError.class, () -> callGuard.call(() -> {
+            throw new StackOverflowError();
+        }));
+
+        assertEquals("trial", callGuard.call(() -> "trial"));
+        assertEquals(TreasuryCircuitBreaker.State.CLOSED, callGuard.circuitBreaker().state());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+import com.wex.purchasetransaction.config.properties.TreasuryRetryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreasuryCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private TreasuryCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        TreasuryRetryProperties.CircuitBreaker config = new TreasuryRetryProperties.CircuitBreaker();
+        config.setSlidingWindowSize(4);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50);
+        config.setOpenDuration(Duration.ofSeconds(30));
+        config.setHalfOpenCalls(2);
+
+        circuitBreaker = new TreasuryCircuitBreaker(config, clock::get);
+    }
+
+    @Test
+    void shouldOpenOnceFailureRateReachesThreshold() {
+        record(false, true, false);
+        assertEquals(TreasuryCircuitBreaker.State.CLOSED, circuitBreaker.state());
+
+        record(true);
+
+        assertEquals(TreasuryCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(Duration.ofSeconds(30), circuitBreaker.remainingOpenTime());
+    }
+
+    @Test
+    void shouldOnlyConsiderMostRecentCalls() {
+        record(true, false, false, false);
+        record(false);
+
+        assertEquals(TreasuryCircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertEquals(0f, circuitBreaker.failureRate());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrialCalls() {
+        record(true, true, true, true);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(TreasuryCircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        assertEquals(TreasuryCircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertEquals(0, circuitBreaker.bufferedCalls());
+    }
+
+    @Test
+    void shouldReopenWhenTrialCallFails() {
+        record(true, true, true, true);
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure();
+
+        assertEquals(TreasuryCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failure : failures) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            if (failure) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+}
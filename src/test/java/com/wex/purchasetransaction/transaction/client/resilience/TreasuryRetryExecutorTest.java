@@ -0,0 +1,167 @@
+package com.wex.purchasetransaction.transaction.client.resilience;
+
+import com.wex.purchasetransaction.config.properties.TreasuryRetryProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreasuryRetryExecutorTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private TreasuryRetryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TreasuryRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TreasuryRetryProperties();
+        properties.setMaxAttempts(4);
+        properties.setDelayMs(100);
+        properties.setMaxDelayMs(250);
+        properties.setMultiplier(2.0);
+
+        meterRegistry = new SimpleMeterRegistry();
+        retryExecutor = new TreasuryRetryExecutor(properties, meterRegistry, clock::get, sleeps::add, () -> 0.999);
+    }
+
+    @Test
+    void shouldBackOffExponentiallyUpToMaxDelay() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retryExecutor.execute(() -> {
+            if (calls.incrementAndGet() < 4) {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(List.of(99L, 199L, 249L), sleeps);
+        assertEquals(3.0, meterRegistry.get("treasury.calls.attempts").tag("attempt", "retry").counter().count());
+    }
+
+    @Test
+    void shouldRecordAttemptLatencyByOutcomeAndAttempt() {
+        AtomicInteger calls = new AtomicInteger();
+
+        retryExecutor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                clock.addAndGet(Duration.ofMillis(30).toNanos());
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            clock.addAndGet(Duration.ofMillis(10).toNanos());
+            return "ok";
+        });
+
+        Timer failed = meterRegistry.get("treasury.calls").tag("outcome", "server_error").tag("attempt", "1").timer();
+        Timer succeeded = meterRegistry.get("treasury.calls").tag("outcome", "success").tag("attempt", "2").timer();
+
+        assertEquals(1, failed.count());
+        assertEquals(30.0, failed.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, succeeded.count());
+        assertEquals(10.0, succeeded.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldApplyFullJitter() {
+        TreasuryRetryExecutor quarterJitter = new TreasuryRetryExecutor(
+                properties, new SimpleMeterRegistry(), clock::get, sleeps::add, () -> 0.25);
+
+        assertEquals(Duration.ofMillis(50), quarterJitter.backoff(2, null));
+        assertEquals(Duration.ofMillis(62), quarterJitter.backoff(5, null));
+    }
+
+    @Test
+    void shouldHonourRetryAfterHeader() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "2");
+        AtomicInteger calls = new AtomicInteger();
+
+        retryExecutor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8);
+            }
+            return "ok";
+        });
+
+        assertEquals(List.of(2000L), sleeps);
+    }
+
+    @Test
+    void shouldGiveUpWhenRetryAfterExceedsLimit() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "120");
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(HttpServerErrorException.class, () -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw HttpServerErrorException.create(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", headers, new byte[0], StandardCharsets.UTF_8);
+        }));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldNotRetryClientErrorsOrOpenCircuit() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.class, () -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        }));
+        assertThrows(TreasuryUnavailableException.class, () -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw new TreasuryUnavailableException("circuit open");
+        }));
+
+        assertEquals(2, calls.get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void shouldStopRetryingOnceBudgetIsSpent() {
+        properties.setMaxAttempts(2);
+        properties.getBudget().setRatio(0.1);
+        properties.getBudget().setMinRetries(1);
+        retryExecutor = new TreasuryRetryExecutor(properties, meterRegistry, clock::get, sleeps::add, () -> 0.0);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HttpServerErrorException.class, () -> retryExecutor.execute(() -> {
+                calls.incrementAndGet();
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }));
+        }
+
+        // Two retries fit in 1 + 10% of the first attempts; the third call is not retried
+        assertEquals(5, calls.get());
+        assertEquals(1.0, meterRegistry.get("treasury.retry.budget.exhausted").counter().count());
+
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertThrows(HttpServerErrorException.class, () -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        }));
+        assertEquals(7, calls.get());
+    }
+}
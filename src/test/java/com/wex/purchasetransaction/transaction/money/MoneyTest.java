@@ -0,0 +1,73 @@
+package com.wex.purchasetransaction.transaction.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+    @Test
+    void shouldMatchBigDecimalConversionForRandomAmountsAndRates() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long cents = random.nextLong(1, 10_000_000_000L);
+            BigDecimal rate = BigDecimal.valueOf(random.nextLong(1, 100_000_000L), random.nextInt(0, 7));
+
+            assertEquals(legacyConvert(cents, rate), Money.fromCents(Money.convert(cents, rate)),
+                    () -> "cents=" + cents + ", rate=" + rate);
+        }
+    }
+
+    @Test
+    void shouldRoundHalfEven() {
+        // 0.05 x 0.5 = 0.025 -> 0.02, 0.15 x 0.5 = 0.075 -> 0.08
+        assertEquals(2, Money.convert(5, Money.toScaledRate(new BigDecimal("0.5"))));
+        assertEquals(8, Money.convert(15, Money.toScaledRate(new BigDecimal("0.5"))));
+        assertEquals(-2, Money.convert(-5, Money.toScaledRate(new BigDecimal("0.5"))));
+        assertEquals(-8, Money.convert(-15, Money.toScaledRate(new BigDecimal("0.5"))));
+    }
+
+    @Test
+    void shouldFallBackWhenProductOverflowsOrRateIsTooPrecise() {
+        long cents = 9_999_999_999L;
+        BigDecimal hugeRate = new BigDecimal("98765.123456");
+        BigDecimal preciseRate = new BigDecimal("0.12345678");
+
+        assertEquals(legacyConvert(cents, hugeRate), Money.fromCents(Money.convert(cents, hugeRate)));
+        assertFalse(Money.isScaledRate(preciseRate));
+        assertEquals(legacyConvert(cents, preciseRate), Money.fromCents(Money.convert(cents, preciseRate)));
+    }
+
+    @Test
+    void shouldConvertThroughPrecomputedRateLikeBigDecimalRate() {
+        long cents = 9_999_999_999L;
+
+        for (String rate : new String[] {"0.925", "151.42", "98765.123456", "0.12345678"}) {
+            BigDecimal value = new BigDecimal(rate);
+
+            assertEquals(Money.convert(cents, value), ConversionRate.of(value).convert(cents), rate);
+        }
+    }
+
+    @Test
+    void shouldConvertBetweenAmountsAndCents() {
+        assertEquals(1_012, Money.toCents(new BigDecimal("10.125")));
+        assertEquals(1_013, Money.toCents(new BigDecimal("10.1201"), RoundingMode.CEILING));
+        assertEquals(new BigDecimal("10.13"), Money.fromCents(1_013));
+        assertEquals(925_000, Money.toScaledRate(new BigDecimal("0.925")));
+        assertTrue(Money.isScaledRate(new BigDecimal("151.42")));
+        assertThrows(ArithmeticException.class, () -> Money.toScaledRate(new BigDecimal("0.1234567")));
+    }
+
+    private static BigDecimal legacyConvert(long cents, BigDecimal rate) {
+        return BigDecimal.valueOf(cents, 2).multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
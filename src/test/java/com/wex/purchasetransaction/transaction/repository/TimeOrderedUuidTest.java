@@ -0,0 +1,70 @@
+package com.wex.purchasetransaction.transaction.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUuidTest {
+
+    @Test
+    void shouldCarryVersionVariantTimestampAndSequence() {
+        long millis = 1_718_000_000_123L;
+
+        UUID uuid = TimeOrderedUuid.of((millis << 12) | 5);
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(millis, uuid.getMostSignificantBits() >>> 16);
+        assertEquals(5, uuid.getMostSignificantBits() & 0x0FFF);
+        assertNotEquals(uuid, TimeOrderedUuid.of((millis << 12) | 5));
+    }
+
+    @Test
+    void shouldIncreaseStrictlyAsBytesWithinTheSameMillisecond() {
+        byte[] previous = TimeOrderedUuid.toBytes(TimeOrderedUuid.next());
+
+        for (int i = 0; i < 10_000; i++) {
+            byte[] next = TimeOrderedUuid.toBytes(TimeOrderedUuid.next());
+            assertEquals(16, next.length);
+            assertTrue(Arrays.compareUnsigned(previous, next) < 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldCarrySequenceOverflowIntoTimestamp() {
+        long millis = 1_718_000_000_123L;
+
+        UUID overflowed = TimeOrderedUuid.of((millis << 12) + 4096);
+
+        assertEquals(millis + 1, overflowed.getMostSignificantBits() >>> 16);
+        assertEquals(0, overflowed.getMostSignificantBits() & 0x0FFF);
+    }
+
+    @Test
+    void shouldWriteBytesBigEndian() {
+        UUID uuid = UUID.fromString("018f3c2a-5b7e-7d41-9a3c-2e5f6a7b8c9d");
+
+        ByteBuffer bytes = ByteBuffer.wrap(TimeOrderedUuid.toBytes(uuid));
+
+        assertEquals(uuid, new UUID(bytes.getLong(), bytes.getLong()));
+        assertEquals(0x01, TimeOrderedUuid.toBytes(uuid)[0]);
+    }
+
+    @Test
+    void shouldParseOnlyCanonicalForm() {
+        UUID uuid = UUID.fromString("018f3c2a-5b7e-7d41-9a3c-2e5f6a7b8c9d");
+
+        assertEquals(Optional.of(uuid), TimeOrderedUuid.parse("018f3c2a-5b7e-7d41-9a3c-2e5f6a7b8c9d"));
+        assertEquals(Optional.empty(), TimeOrderedUuid.parse("1-2-3-4-5"));
+        assertEquals(Optional.empty(), TimeOrderedUuid.parse("018f3c2a-5b7e-7d41-9a3c-2e5f6a7b8c9z"));
+        assertEquals(Optional.empty(), TimeOrderedUuid.parse(null));
+    }
+}
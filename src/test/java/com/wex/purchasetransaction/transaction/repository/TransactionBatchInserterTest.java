@@ -0,0 +1,109 @@
+package com.wex.purchasetransaction.transaction.repository;
+
+import com.wex.purchasetransaction.auth.repository.UserRepository;
+import com.wex.purchasetransaction.auth.repository.entity.User;
+import com.wex.purchasetransaction.auth.repository.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "treasury.exchange-rate.sync.enabled=false")
+class TransactionBatchInserterTest {
+
+    private static final String RAW_COLUMNS = """
+            select typeof(id) id_type, length(id) id_length,
+                   typeof(transaction_date) date_type, transaction_date,
+                   typeof(amount_usd_cents) amount_type, amount_usd_cents,
+                   typeof(created_at) created_type
+            from purchase_transactions where id = ?
+            """;
+
+    @Autowired
+    private TransactionBatchInserter inserter;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        user = userRepository.save(new User("batch-" + UUID.randomUUID(), "not-used", UserRole.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from purchase_transactions where user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void shouldStoreColumnsExactlyAsHibernateDoes() {
+        LocalDate date = LocalDate.of(2024, 2, 29);
+        long amountCents = 123_450L;
+
+        Transaction viaJpa = new Transaction("Through JPA", date, amountCents, user);
+        Transaction viaJdbc = new Transaction("Through JDBC", date, amountCents, null);
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(viaJpa));
+        transactionTemplate.executeWithoutResult(status -> inserter.insert(user.getId(), List.of(viaJdbc)));
+
+        Map<String, Object> jpaRow = jdbcTemplate.queryForMap(RAW_COLUMNS, TimeOrderedUuid.toBytes(viaJpa.getId()));
+        Map<String, Object> jdbcRow = jdbcTemplate.queryForMap(RAW_COLUMNS, TimeOrderedUuid.toBytes(viaJdbc.getId()));
+        assertEquals(jpaRow, jdbcRow);
+        assertEquals("blob", jdbcRow.get("id_type"));
+        assertEquals(16, jdbcRow.get("id_length"));
+
+        Transaction read = transactionRepository.findById(viaJdbc.getId()).orElseThrow();
+        assertEquals("Through JDBC", read.getDescription());
+        assertEquals(date, read.getTransactionDate());
+        assertEquals(amountCents, read.getAmountUsdCents());
+
+        TransactionView view = transactionRepository.findViewByIdAndUserId(viaJdbc.getId(), user.getId()).orElseThrow();
+        assertEquals(new TransactionView(viaJdbc.getId(), "Through JDBC", date, amountCents), view);
+        assertTrue(transactionRepository.findViewByIdAndUserId(viaJdbc.getId(), user.getId() + 1).isEmpty());
+    }
+
+    @Test
+    void shouldInsertEveryRowOfTheBatch() {
+        List<Transaction> transactions = List.of(
+                new Transaction("First", LocalDate.of(2024, 1, 1), 100L, null),
+                new Transaction("Second", LocalDate.of(2024, 1, 2), 200L, null),
+                new Transaction("Third", LocalDate.of(2024, 1, 3), 300L, null)
+        );
+
+        transactionTemplate.executeWithoutResult(status -> inserter.insert(user.getId(), transactions));
+
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from purchase_transactions where user_id = ?", Integer.class, user.getId());
+        assertEquals(3, count);
+    }
+}
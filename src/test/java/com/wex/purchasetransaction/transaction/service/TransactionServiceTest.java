@@ -4,33 +4,49 @@ import com.wex.purchasetransaction.auth.repository.UserRepository;
 import com.wex.purchasetransaction.auth.repository.entity.User;
 import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
 import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.config.properties.ConversionProperties;
+import com.wex.purchasetransaction.transaction.api.dto.CurrencyConversion;
 import com.wex.purchasetransaction.transaction.api.dto.TransactionCreatedResponse;
 import com.wex.purchasetransaction.transaction.api.dto.TransactionRequest;
 import com.wex.purchasetransaction.transaction.api.dto.ConvertedTransactionResponse;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
 import com.wex.purchasetransaction.transaction.repository.Transaction;
 import com.wex.purchasetransaction.transaction.repository.TransactionRepository;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import com.wex.purchasetransaction.transaction.service.cache.RecentTransactionCache;
+import com.wex.purchasetransaction.transaction.service.write.TransactionWriteBatcher;
 import com.wex.purchasetransaction.transaction.treasury.ExchangeRateClient;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoSettings;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @MockitoSettings
 class TransactionServiceTest {
 
     static final int USER_ID = 1;
+    static final UUID TRANSACTION_ID = UUID.fromString("018f3c2a-5b7e-7d41-9a3c-2e5f6a7b8c9d");
+    static final UUID MISSING_ID = UUID.fromString("018f3c2a-5b7e-7d41-9a3c-000000000000");
 
     @Mock
     TransactionRepository transactionRepository;
@@ -44,6 +60,15 @@ class TransactionServiceTest {
     @Mock
     AuthenticatedUserProvider authenticatedUserProvider;
 
+    @Spy
+    ConversionProperties conversionProperties = new ConversionProperties();
+
+    @Mock
+    TransactionWriteBatcher transactionWriteBatcher;
+
+    @Mock
+    RecentTransactionCache recentTransactionCache;
+
     @InjectMocks
     TransactionService transactionService;
 
@@ -68,63 +93,130 @@ class TransactionServiceTest {
 
         when(userRepository.getReferenceById(USER_ID)).thenReturn(userRef);
 
-        when(transactionRepository.save(any(Transaction.class)))
+        when(transactionWriteBatcher.write(any(Transaction.class)))
                 .thenAnswer(invocation -> {
                     Transaction t = invocation.getArgument(0);
-                    t.setId("tx-123");
+                    t.setId(TRANSACTION_ID);
                     return t;
                 });
 
         TransactionCreatedResponse response = transactionService.storeTransaction(request);
 
-        assertEquals("tx-123", response.id());
+        assertEquals(TRANSACTION_ID.toString(), response.id());
         assertEquals("Office Supplies", response.description());
         assertEquals(
                 0,
                 response.purchaseAmountUsd().compareTo(new BigDecimal("10.13"))
         );
 
-        verify(transactionRepository).save(any(Transaction.class));
+        verify(transactionWriteBatcher).write(any(Transaction.class));
         verify(userRepository).getReferenceById(USER_ID);
+        verify(recentTransactionCache).put(eq(USER_ID), argThat(t -> t.getId().equals(TRANSACTION_ID)));
     }
 
     @Test
     void shouldRetrieveConvertedTransactionForAuthenticatedUser() {
-        Transaction transaction = new Transaction(
-                "Laptop",
-                LocalDate.of(2024, 1, 1),
-                new BigDecimal("100.00"),
-                new User()
-        );
-        transaction.setId("tx-123");
+        TransactionView transaction = new TransactionView(TRANSACTION_ID, "Laptop", LocalDate.of(2024, 1, 1), 10_000L);
 
-        when(transactionRepository.findByIdAndUserId("tx-123", USER_ID))
+        when(transactionRepository.findViewByIdAndUserId(TRANSACTION_ID, USER_ID))
                 .thenReturn(Optional.of(transaction));
 
-        when(exchangeRateClient.getExchangeRate("Euro", transaction.getTransactionDate()))
-                .thenReturn(new BigDecimal("0.9"));
+        when(exchangeRateClient.getExchangeRate("Euro", transaction.transactionDate()))
+                .thenReturn(ConversionRate.of(new BigDecimal("0.9")));
 
         ConvertedTransactionResponse response =
-                transactionService.retrieveConvertedTransaction("tx-123", "Euro");
+                transactionService.retrieveConvertedTransaction(TRANSACTION_ID.toString(), "Euro");
 
-        assertEquals("tx-123", response.id());
+        assertEquals(TRANSACTION_ID.toString(), response.id());
         assertEquals(0, response.exchangeRate().compareTo(new BigDecimal("0.9")));
         assertEquals(0, response.convertedAmount().compareTo(new BigDecimal("90.00")));
         assertEquals("Euro", response.targetCurrency());
 
-        verify(transactionRepository).findByIdAndUserId("tx-123", USER_ID);
+        verify(transactionRepository).findViewByIdAndUserId(TRANSACTION_ID, USER_ID);
+    }
+
+    @Test
+    void shouldConvertRecentTransactionWithoutQueryingRepository() {
+        TransactionView transaction = new TransactionView(TRANSACTION_ID, "Laptop", LocalDate.of(2024, 1, 1), 10_000L);
+
+        when(recentTransactionCache.get(TRANSACTION_ID, USER_ID)).thenReturn(Optional.of(transaction));
+        when(exchangeRateClient.getExchangeRate("Euro", transaction.transactionDate()))
+                .thenReturn(ConversionRate.of(new BigDecimal("0.9")));
+
+        ConvertedTransactionResponse response =
+                transactionService.retrieveConvertedTransaction(TRANSACTION_ID.toString(), "Euro");
+
+        assertEquals(TRANSACTION_ID.toString(), response.id());
+        assertEquals(0, response.convertedAmount().compareTo(new BigDecimal("90.00")));
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
     void shouldThrowWhenTransactionDoesNotBelongToUser() {
-        when(transactionRepository.findByIdAndUserId("tx-999", USER_ID)).thenReturn(Optional.empty());
+        when(transactionRepository.findViewByIdAndUserId(MISSING_ID, USER_ID)).thenReturn(Optional.empty());
+
+        EntityNotFoundException ex = assertThrows(
+                EntityNotFoundException.class,
+                () -> transactionService.retrieveConvertedTransaction(MISSING_ID.toString(), "Euro")
+        );
+
+        assertEquals("Transaction not found", ex.getMessage());
+    }
 
+    @Test
+    void shouldTreatMalformedIdAsNotFoundWithoutQuerying() {
         EntityNotFoundException ex = assertThrows(
                 EntityNotFoundException.class,
-                () -> transactionService.retrieveConvertedTransaction("tx-999", "Euro")
+                () -> transactionService.retrieveConvertedTransaction("tx-123", "Euro")
         );
 
         assertEquals("Transaction not found", ex.getMessage());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void shouldConvertToSeveralCurrenciesFromSingleTransactionLoad() {
+        TransactionView transaction = new TransactionView(TRANSACTION_ID, "Laptop", LocalDate.of(2024, 1, 1), 10_000L);
+
+        when(transactionRepository.findViewByIdAndUserId(TRANSACTION_ID, USER_ID))
+                .thenReturn(Optional.of(transaction));
+
+        when(exchangeRateClient.getCachedExchangeRate("Euro", transaction.transactionDate()))
+                .thenReturn(ConversionRate.of(new BigDecimal("0.9")));
+        when(exchangeRateClient.getExchangeRate("Yen", transaction.transactionDate()))
+                .thenReturn(ConversionRate.of(new BigDecimal("141.5")));
+        when(exchangeRateClient.getExchangeRate("Real", transaction.transactionDate()))
+                .thenReturn(ConversionRate.of(new BigDecimal("4.85")));
+
+        ConvertedTransactionResponse response = transactionService.retrieveConvertedTransaction(
+                TRANSACTION_ID.toString(), List.of("Euro", "Yen", "Real", "Euro")
+        );
+
+        List<CurrencyConversion> conversions = response.conversions();
+
+        assertEquals(TRANSACTION_ID.toString(), response.id());
+        assertEquals(List.of("Euro", "Yen", "Real"), conversions.stream().map(CurrencyConversion::targetCurrency).toList());
+        assertEquals(0, conversions.get(0).convertedAmount().compareTo(new BigDecimal("90.00")));
+        assertEquals(0, conversions.get(1).convertedAmount().compareTo(new BigDecimal("14150.00")));
+        assertEquals(0, conversions.get(2).convertedAmount().compareTo(new BigDecimal("485.00")));
+
+        verify(transactionRepository).findViewByIdAndUserId(TRANSACTION_ID, USER_ID);
+        verify(exchangeRateClient, never()).getExchangeRate("Euro", transaction.transactionDate());
+    }
+
+    @Test
+    void shouldPropagateMissingRateFromConcurrentLookup() {
+        TransactionView transaction = new TransactionView(TRANSACTION_ID, "Laptop", LocalDate.of(2024, 1, 1), 10_000L);
+
+        when(transactionRepository.findViewByIdAndUserId(TRANSACTION_ID, USER_ID))
+                .thenReturn(Optional.of(transaction));
+        when(exchangeRateClient.getExchangeRate("Unknown", transaction.transactionDate()))
+                .thenThrow(new NoSuchElementException("No exchange rate available"));
+
+        assertThrows(
+                NoSuchElementException.class,
+                () -> transactionService.retrieveConvertedTransaction(TRANSACTION_ID.toString(), List.of("Unknown"))
+        );
     }
 
 }
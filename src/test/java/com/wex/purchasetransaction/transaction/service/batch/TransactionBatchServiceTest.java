@@ -0,0 +1,129 @@
+package com.wex.purchasetransaction.transaction.service.batch;
+
+import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
+import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.config.properties.TransactionBatchProperties;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionBatchItemResult;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionBatchResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionRequest;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.repository.TransactionBatchInserter;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class TransactionBatchServiceTest {
+
+    static final int USER_ID = 7;
+
+    @Mock
+    TransactionBatchInserter inserter;
+
+    @Mock
+    AuthenticatedUserProvider authenticatedUserProvider;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private ValidatorFactory validatorFactory;
+    private TransactionBatchProperties properties;
+    private TransactionBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        when(authenticatedUserProvider.get()).thenReturn(new AuthenticatedUser(USER_ID, "upstream", "USER"));
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        properties = new TransactionBatchProperties();
+        service = new TransactionBatchService(
+                inserter, authenticatedUserProvider, validatorFactory.getValidator(), properties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void shouldInsertValidItemsAndReportInvalidOnesByIndex() {
+        List<TransactionRequest> requests = Arrays.asList(
+                request("Office Supplies", "10.125"),
+                request("", "5.00"),
+                null,
+                request("Laptop", "-1")
+        );
+
+        TransactionBatchResponse response = service.storeTransactions(requests);
+
+        assertEquals(1, response.created());
+        assertEquals(3, response.rejected());
+
+        TransactionBatchItemResult created = response.items().get(0);
+        assertEquals(TransactionBatchItemResult.Status.CREATED, created.status());
+        assertNull(created.errors());
+
+        assertEquals("Description is required", response.items().get(1).errors().get("description"));
+        assertEquals("Transaction must not be null", response.items().get(2).errors().get("transaction"));
+        assertEquals("Amount must be positive", response.items().get(3).errors().get("purchaseAmountUsd"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(inserter).insert(eq(USER_ID), inserted.capture());
+        assertEquals(1, inserted.getValue().size());
+        assertEquals(created.id(), inserted.getValue().get(0).getId().toString());
+        assertEquals(1_012L, inserted.getValue().get(0).getAmountUsdCents());
+    }
+
+    @Test
+    void shouldSplitInsertIntoChunksWithinOneTransaction() {
+        properties.setChunkSize(2);
+        List<TransactionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(request("Item " + i, "1.00"));
+        }
+
+        TransactionBatchResponse response = service.storeTransactions(requests);
+
+        assertEquals(5, response.created());
+        verify(inserter, times(3)).insert(eq(USER_ID), any());
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void shouldNotTouchDatabaseWhenEveryItemIsInvalid() {
+        TransactionBatchResponse response = service.storeTransactions(List.of(request("", "0")));
+
+        assertEquals(0, response.created());
+        assertEquals(1, response.rejected());
+        verify(inserter, never()).insert(anyInt(), any());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    private static TransactionRequest request(String description, String amount) {
+        return new TransactionRequest(description, LocalDate.of(2024, 1, 10), new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,110 @@
+package com.wex.purchasetransaction.transaction.service.cache;
+
+import com.wex.purchasetransaction.config.properties.RecentTransactionCacheProperties;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecentTransactionCacheTest {
+
+    private static final int OWNER_ID = 1;
+    private static final int OTHER_USER_ID = 2;
+
+    private RecentTransactionCacheProperties properties;
+    private AtomicLong nanos;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RecentTransactionCacheProperties();
+        properties.setExpireAfterWrite(Duration.ofMinutes(15));
+        nanos = new AtomicLong();
+    }
+
+    @Test
+    void shouldReturnCachedTransactionOnlyToItsOwner() {
+        RecentTransactionCache cache = cache();
+        Transaction transaction = transaction("Laptop");
+
+        cache.put(OWNER_ID, transaction);
+
+        Optional<TransactionView> owned = cache.get(transaction.getId(), OWNER_ID);
+        assertEquals(
+                Optional.of(new TransactionView(transaction.getId(), "Laptop", LocalDate.of(2024, 2, 29), 123_456L)),
+                owned
+        );
+        assertTrue(cache.get(transaction.getId(), OTHER_USER_ID).isEmpty());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void shouldEvictEntriesOnceTheyExpire() {
+        RecentTransactionCache cache = cache();
+        Transaction transaction = transaction("Laptop");
+
+        cache.put(OWNER_ID, transaction);
+        nanos.addAndGet(Duration.ofMinutes(14).toNanos());
+        assertTrue(cache.get(transaction.getId(), OWNER_ID).isPresent());
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertTrue(cache.get(transaction.getId(), OWNER_ID).isEmpty());
+    }
+
+    @Test
+    void shouldBoundTheNumberOfEntries() {
+        properties.setMaximumSize(10);
+        RecentTransactionCache cache = cache();
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(OWNER_ID, transaction("Purchase " + i));
+        }
+
+        assertTrue(cache.estimatedSize() <= 10);
+    }
+
+    @Test
+    void shouldShareOneInstancePerDescription() {
+        RecentTransactionCache cache = cache();
+        Transaction first = transaction(new String("Coffee"));
+        Transaction second = transaction(new String("Coffee"));
+
+        cache.put(OWNER_ID, first);
+        cache.put(OWNER_ID, second);
+
+        assertSame(
+                cache.get(first.getId(), OWNER_ID).orElseThrow().description(),
+                cache.get(second.getId(), OWNER_ID).orElseThrow().description()
+        );
+    }
+
+    @Test
+    void shouldStoreNothingWhenDisabled() {
+        properties.setEnabled(false);
+        RecentTransactionCache cache = cache();
+        Transaction transaction = transaction("Laptop");
+
+        cache.put(OWNER_ID, transaction);
+
+        assertTrue(cache.get(transaction.getId(), OWNER_ID).isEmpty());
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    private RecentTransactionCache cache() {
+        return new RecentTransactionCache(properties, new SimpleMeterRegistry(), nanos::get);
+    }
+
+    private static Transaction transaction(String description) {
+        return new Transaction(description, LocalDate.of(2024, 2, 29), 123_456L, null);
+    }
+}
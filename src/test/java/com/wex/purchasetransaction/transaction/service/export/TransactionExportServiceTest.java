@@ -0,0 +1,155 @@
+package com.wex.purchasetransaction.transaction.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wex.purchasetransaction.auth.service.AuthenticatedUserProvider;
+import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.repository.TransactionRepository;
+import com.wex.purchasetransaction.transaction.repository.TransactionView;
+import com.wex.purchasetransaction.transaction.treasury.ExchangeRateClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings
+class TransactionExportServiceTest {
+
+    private static final int USER_ID = 1;
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ExchangeRateClient exchangeRateClient;
+
+    @Mock
+    private AuthenticatedUserProvider authenticatedUserProvider;
+
+    private TransactionExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        exportService = new TransactionExportService(
+                transactionRepository, exchangeRateClient, authenticatedUserProvider, objectMapper);
+    }
+
+    @Test
+    void shouldResolveRatesOnceForTheRangeAndWriteCsv() throws IOException {
+        LocalDate january = LocalDate.of(2024, 1, 10);
+        LocalDate february = LocalDate.of(2024, 2, 5);
+        UUID first = new UUID(1L, 1);
+        UUID second = new UUID(2L, 1);
+        UUID third = new UUID(3L, 1);
+
+        when(exchangeRateClient.getExchangeRates("Euro", FROM, TO))
+                .thenReturn(Map.of(
+                        january, ConversionRate.of(new BigDecimal("0.9")),
+                        february, ConversionRate.of(new BigDecimal("0.95"))
+                )::get);
+        when(transactionRepository.findPage(eq(USER_ID), eq(FROM), eq(TO), eq(FROM), eq(FIRST_ID), isNull(), isNull(), any()))
+                .thenReturn(List.of(
+                        new TransactionView(first, "Laptop", january, 10_000L),
+                        new TransactionView(second, "Desk, oak", january, 1_000L),
+                        new TransactionView(third, "The \"good\" chair", february, 2_000L)
+                ));
+
+        String csv = export(ExportFormat.CSV);
+
+        assertEquals("""
+                id,description,transactionDate,purchaseAmountUsd,exchangeRate,convertedAmount,targetCurrency\r
+                %s,Laptop,2024-01-10,100.00,0.9,90.00,Euro\r
+                %s,"Desk, oak",2024-01-10,10.00,0.9,9.00,Euro\r
+                %s,"The ""good"" chair",2024-02-05,20.00,0.95,19.00,Euro\r
+                """.formatted(first, second, third), csv);
+
+        verify(exchangeRateClient, times(1)).getExchangeRates("Euro", FROM, TO);
+        verify(exchangeRateClient, never()).getExchangeRate(any(), any());
+    }
+
+    @Test
+    void shouldWriteNdjsonAndKeepRowsWithoutRate() throws IOException {
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        UUID id = new UUID(1L, 1);
+
+        when(exchangeRateClient.getExchangeRates("Euro", FROM, TO)).thenReturn(day -> null);
+        when(transactionRepository.findPage(eq(USER_ID), eq(FROM), eq(TO), eq(FROM), eq(FIRST_ID), isNull(), isNull(), any()))
+                .thenReturn(List.of(new TransactionView(id, "Laptop", date, 10_000L)));
+
+        String ndjson = export(ExportFormat.NDJSON);
+
+        assertEquals(
+                "{\"id\":\"" + id + "\",\"description\":\"Laptop\",\"transactionDate\":\"2024-03-01\","
+                        + "\"purchaseAmountUsd\":100.00,\"targetCurrency\":\"Euro\"}\n",
+                ndjson
+        );
+    }
+
+    @Test
+    void shouldContinueAfterTheLastRowOfEachFullPage() throws IOException {
+        LocalDate date = LocalDate.of(2024, 6, 1);
+        List<TransactionView> fullPage = new ArrayList<>();
+
+        for (int i = 1; i <= TransactionExportService.PAGE_SIZE; i++) {
+            fullPage.add(new TransactionView(new UUID(i, 1), "Item " + i, date, 100L));
+        }
+        UUID lastId = UUID.fromString(fullPage.getLast().id());
+        UUID nextId = new UUID(TransactionExportService.PAGE_SIZE + 1, 1);
+
+        when(exchangeRateClient.getExchangeRates("Euro", FROM, TO)).thenReturn(day -> ConversionRate.of(BigDecimal.ONE));
+        when(transactionRepository.findPage(eq(USER_ID), eq(FROM), eq(TO), eq(FROM), eq(FIRST_ID), isNull(), isNull(), any()))
+                .thenReturn(fullPage);
+        when(transactionRepository.findPage(eq(USER_ID), eq(date), eq(TO), eq(date), eq(lastId), isNull(), isNull(), any()))
+                .thenReturn(List.of(new TransactionView(nextId, "Last", date, 100L)));
+
+        String ndjson = export(ExportFormat.NDJSON);
+
+        assertEquals(TransactionExportService.PAGE_SIZE + 1, ndjson.lines().count());
+        verify(transactionRepository, times(2)).findPage(anyInt(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectInvertedRangeBeforeStreaming() {
+        assertThrows(
+                InvalidRequestException.class,
+                () -> exportService.exportConvertedTransactions(TO, FROM, "Euro", ExportFormat.CSV)
+        );
+
+        verifyNoInteractions(authenticatedUserProvider, transactionRepository, exchangeRateClient);
+    }
+
+    private String export(ExportFormat format) throws IOException {
+        when(authenticatedUserProvider.get()).thenReturn(new AuthenticatedUser(USER_ID, "admin", "USER"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportConvertedTransactions(FROM, TO, "Euro", format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
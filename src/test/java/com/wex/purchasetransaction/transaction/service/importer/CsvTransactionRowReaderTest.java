@@ -0,0 +1,105 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvTransactionRowReaderTest {
+
+    private static final int MAX_RECORD_LENGTH = 256;
+
+    @Test
+    void shouldMatchColumnsByHeaderNameAndIgnoreExtraColumns() throws IOException {
+        CsvTransactionRowReader reader = reader("""
+                id,description,transactionDate,purchaseAmountUsd,exchangeRate,convertedAmount,targetCurrency\r
+                tx-1,Office supplies,2024-02-15,1234.56,0.925,1141.97,Euro\r
+                """);
+
+        ImportRow row = reader.next();
+
+        assertEquals(1, row.number());
+        assertTrue(row.errors().isEmpty());
+        assertEquals("Office supplies", row.request().description());
+        assertEquals(LocalDate.of(2024, 2, 15), row.request().transactionDate());
+        assertEquals(new BigDecimal("1234.56"), row.request().purchaseAmountUsd());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldReadQuotedFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+        CsvTransactionRowReader reader = reader(
+                "purchaseAmountUsd,description,transactionDate\n"
+                        + "10.00,\"Desk, chair and \"\"lamp\"\"\",2024-01-01\n"
+                        + "\n"
+                        + "20.00,\"Two\nlines\",2024-01-02\n");
+
+        assertEquals("Desk, chair and \"lamp\"", reader.next().request().description());
+
+        ImportRow second = reader.next();
+        assertEquals(2, second.number());
+        assertEquals("Two\nlines", second.request().description());
+        assertEquals(LocalDate.of(2024, 1, 2), second.request().transactionDate());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldReportUnparseableFieldsAndKeepReading() throws IOException {
+        CsvTransactionRowReader reader = reader("""
+                description,transactionDate,purchaseAmountUsd
+                Bad date,15/02/2024,abc
+                "Unterminated,2024-01-01,1.00
+                """);
+
+        ImportRow bad = reader.next();
+        assertEquals(Map.of(
+                "transactionDate", "Transaction date must be an ISO date (yyyy-MM-dd)",
+                "purchaseAmountUsd", "Purchase amount must be a decimal number"
+        ), bad.errors());
+        assertEquals("Bad date", bad.request().description());
+
+        ImportRow malformed = reader.next();
+        assertEquals(2, malformed.number());
+        assertNull(malformed.request());
+        assertEquals(Map.of("row", "Unterminated quoted field"), malformed.errors());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldRejectRecordsLongerThanTheLimitAndResumeAfterThem() throws IOException {
+        String longQuoted = "\"" + "x,\n".repeat(MAX_RECORD_LENGTH) + "\"";
+        CsvTransactionRowReader reader = reader("description,transactionDate,purchaseAmountUsd\n"
+                + longQuoted + ",2024-01-01,1.00\n"
+                + ",".repeat(MAX_RECORD_LENGTH + 1) + "\n"
+                + "Lunch,2024-01-01,1.00\n");
+
+        assertEquals(Map.of("row", "Row exceeds 256 characters"), reader.next().errors());
+        assertEquals(Map.of("row", "Row exceeds 256 characters"), reader.next().errors());
+
+        ImportRow valid = reader.next();
+        assertEquals(3, valid.number());
+        assertEquals("Lunch", valid.request().description());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldRejectHeaderWithoutRequiredColumn() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> reader("description,transactionDate\nLunch,2024-01-01\n"));
+
+        assertEquals("CSV header must contain a 'purchaseAmountUsd' column", exception.getMessage());
+    }
+
+    private static CsvTransactionRowReader reader(String csv) throws IOException {
+        return new CsvTransactionRowReader(new StringReader(csv), MAX_RECORD_LENGTH);
+    }
+}
@@ -0,0 +1,76 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NdjsonTransactionRowReaderTest {
+
+    private static final int MAX_RECORD_LENGTH = 256;
+
+    @Test
+    void shouldReadOneObjectPerLineWithExactAmounts() throws IOException {
+        NdjsonTransactionRowReader reader = reader("""
+                {"description":"Lunch","transactionDate":"2024-03-01","purchaseAmountUsd":12.10,"id":"ignored"}
+
+                {"description":"Taxi","transactionDate":"2024-03-02","purchaseAmountUsd":"7.5"}
+                """);
+
+        ImportRow first = reader.next();
+        assertTrue(first.errors().isEmpty());
+        assertEquals(LocalDate.of(2024, 3, 1), first.request().transactionDate());
+        assertEquals(0, new BigDecimal("12.10").compareTo(first.request().purchaseAmountUsd()));
+
+        ImportRow second = reader.next();
+        assertEquals(2, second.number());
+        assertEquals(new BigDecimal("7.5"), second.request().purchaseAmountUsd());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldReportMalformedLinesAndKeepReading() throws IOException {
+        NdjsonTransactionRowReader reader = reader("""
+                {"description":"Lunch",
+                [1, 2]
+                {"description":"Missing fields"}
+                """);
+
+        assertEquals(Map.of("row", "Malformed JSON"), reader.next().errors());
+        assertEquals(Map.of("row", "Row must be a JSON object"), reader.next().errors());
+
+        ImportRow incomplete = reader.next();
+        assertEquals(3, incomplete.number());
+        assertTrue(incomplete.errors().isEmpty());
+        assertNull(incomplete.request().transactionDate());
+        assertNull(incomplete.request().purchaseAmountUsd());
+    }
+
+    @Test
+    void shouldRejectLinesLongerThanTheLimitAndResumeAfterThem() throws IOException {
+        NdjsonTransactionRowReader reader = reader("{\"description\":\"" + "x".repeat(MAX_RECORD_LENGTH) + "\"}\r\n"
+                + "{\"description\":\"Lunch\"}\n");
+
+        ImportRow tooLong = reader.next();
+        assertEquals(1, tooLong.number());
+        assertEquals(Map.of("row", "Row exceeds 256 characters"), tooLong.errors());
+
+        ImportRow valid = reader.next();
+        assertEquals(2, valid.number());
+        assertEquals("Lunch", valid.request().description());
+        assertNull(reader.next());
+    }
+
+    private static NdjsonTransactionRowReader reader(String ndjson) {
+        return new NdjsonTransactionRowReader(new BufferedReader(new StringReader(ndjson)), new ObjectMapper(), MAX_RECORD_LENGTH);
+    }
+}
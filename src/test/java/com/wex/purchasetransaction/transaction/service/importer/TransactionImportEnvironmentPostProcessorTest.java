@@ -0,0 +1,38 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TransactionImportEnvironmentPostProcessorTest {
+
+    private final TransactionImportEnvironmentPostProcessor postProcessor = new TransactionImportEnvironmentPostProcessor();
+
+    @Test
+    void shouldRunACommandLineImportWithoutWebServerOrSchedulers() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("transaction.import.file", "transactions.csv")
+                .withProperty("treasury.exchange-rate.sync.enabled", "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("none", environment.getProperty("spring.main.web-application-type"));
+        assertEquals("false", environment.getProperty("scheduling.enabled"));
+        assertEquals("false", environment.getProperty("treasury.exchange-rate.sync.enabled"));
+        assertEquals("", environment.getProperty("treasury.exchange-rate.cache.warm-up.currencies"));
+    }
+
+    @Test
+    void shouldLeaveANormalStartupAlone() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertFalse(environment.getPropertySources().contains(TransactionImportEnvironmentPostProcessor.PROPERTY_SOURCE_NAME));
+        assertNull(environment.getProperty("spring.main.web-application-type"));
+    }
+}
@@ -0,0 +1,164 @@
+package com.wex.purchasetransaction.transaction.service.importer;
+
+import com.wex.purchasetransaction.auth.repository.UserRepository;
+import com.wex.purchasetransaction.auth.repository.entity.User;
+import com.wex.purchasetransaction.auth.repository.entity.UserRole;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionImportResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionImportRowError;
+import com.wex.purchasetransaction.transaction.repository.TransactionImport;
+import com.wex.purchasetransaction.transaction.repository.TransactionImportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "treasury.exchange-rate.sync.enabled=false",
+        "transaction.import.chunk-size=2"
+})
+class TransactionImportServiceTest {
+
+    private static final String CSV = """
+            description,transactionDate,purchaseAmountUsd
+            First,2024-01-01,1.00
+            Second,2024-01-02,2.005
+            ,2024-01-03,3.00
+            Fourth,2024-01-04,4.00
+            Fifth,2024-01-05,5.00
+            Sixth,2024-01-06,6.00
+            """;
+
+    @Autowired
+    private TransactionImportService importService;
+
+    @Autowired
+    private TransactionImportRepository importRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String importId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("import-" + UUID.randomUUID(), "not-used", UserRole.USER));
+        importId = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from purchase_transactions where user_id = ?", user.getId());
+        jdbcTemplate.update("delete from transaction_imports where user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void shouldImportValidRowsAndReportRejectedOnes() throws IOException {
+        TransactionImportResponse result = importService.importTransactions(importId, user.getId(), ImportFormat.CSV, input(CSV));
+
+        assertEquals(TransactionImport.Status.COMPLETED, result.status());
+        assertEquals(6, result.rowsRead());
+        assertEquals(5, result.created());
+        assertEquals(1, result.rejected());
+        assertEquals(List.of(new TransactionImportRowError(3, Map.of("description", "Description is required"))), result.errors());
+
+        assertEquals(List.of("First", "Second", "Fourth", "Fifth", "Sixth"), storedDescriptions());
+    }
+
+    @Test
+    void shouldResumeAfterTheLastCommittedChunkWithoutDuplicates() throws IOException {
+        byte[] bytes = CSV.getBytes(StandardCharsets.UTF_8);
+        int failAfter = CSV.indexOf("Sixth");
+
+        assertThrows(IOException.class, () -> importService.importTransactions(
+                importId, user.getId(), ImportFormat.CSV, failingAfter(bytes, failAfter)));
+
+        TransactionImport checkpoint = importRepository.findById(importId).orElseThrow();
+        assertEquals(TransactionImport.Status.FAILED, checkpoint.getStatus());
+        assertEquals(5, checkpoint.getRowsCommitted());
+        assertEquals(1, checkpoint.getRejected());
+        assertEquals(4, storedDescriptions().size());
+
+        TransactionImportResponse resumed = importService.importTransactions(importId, user.getId(), ImportFormat.CSV, input(CSV));
+
+        assertEquals(TransactionImport.Status.COMPLETED, resumed.status());
+        assertEquals(5, resumed.resumedFromRow());
+        assertEquals(5, resumed.created());
+        assertEquals(1, resumed.rejected());
+        assertEquals(List.of("First", "Second", "Fourth", "Fifth", "Sixth"), storedDescriptions());
+    }
+
+    @Test
+    void shouldNotRepeatCompletedImport() throws IOException {
+        importService.importTransactions(importId, user.getId(), ImportFormat.CSV, input(CSV));
+
+        TransactionImportResponse again = importService.importTransactions(importId, user.getId(), ImportFormat.CSV, input(CSV));
+
+        assertEquals(TransactionImport.Status.COMPLETED, again.status());
+        assertEquals(5, again.created());
+        assertEquals(5, storedDescriptions().size());
+    }
+
+    @Test
+    void shouldRejectResumingWithAnotherFormat() throws IOException {
+        importService.importTransactions(importId, user.getId(), ImportFormat.CSV, input(CSV));
+
+        assertThrows(InvalidRequestException.class, () ->
+                importService.importTransactions(importId, user.getId(), ImportFormat.NDJSON, input("")));
+    }
+
+    private List<String> storedDescriptions() {
+        return jdbcTemplate.queryForList(
+                "select description from purchase_transactions where user_id = ? order by transaction_date",
+                String.class, user.getId());
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream failingAfter(byte[] bytes, int limit) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                return read(new byte[1], 0, 1) == -1 ? -1 : bytes[position - 1] & 0xFF;
+            }
+
+            @Override
+            public int available() throws IOException {
+                return Math.min(super.available(), limit - position);
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (position >= limit) {
+                    throw new IOException("Connection reset");
+                }
+                int read = super.read(buffer, offset, Math.min(length, limit - position));
+                position += Math.max(read, 0);
+                return read;
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.wex.purchasetransaction.transaction.service.listing;
+
+import com.wex.purchasetransaction.auth.repository.UserRepository;
+import com.wex.purchasetransaction.auth.repository.entity.User;
+import com.wex.purchasetransaction.auth.repository.entity.UserRole;
+import com.wex.purchasetransaction.config.dto.AuthenticatedUser;
+import com.wex.purchasetransaction.exception.InvalidRequestException;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionPageResponse;
+import com.wex.purchasetransaction.transaction.api.dto.TransactionSummary;
+import com.wex.purchasetransaction.transaction.money.Money;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import com.wex.purchasetransaction.transaction.repository.TransactionBatchInserter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "treasury.exchange-rate.sync.enabled=false")
+class TransactionListingServiceTest {
+
+    @Autowired
+    private TransactionListingService listingService;
+
+    @Autowired
+    private TransactionBatchInserter inserter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("listing-" + UUID.randomUUID(), "not-used", UserRole.USER));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getId(), user.getUsername(), "USER"), null, List.of()));
+
+        List<Transaction> transactions = List.of(
+                transaction("A", "2024-01-03", "30.00"),
+                transaction("B", "2024-01-01", "10.00"),
+                transaction("C", "2024-01-02", "20.00"),
+                transaction("D", "2024-01-02", "25.00"),
+                transaction("E", "2024-01-02", "5.00")
+        );
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> inserter.insert(user.getId(), transactions));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("delete from purchase_transactions where user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void shouldWalkEveryPageInDateThenIdOrder() {
+        List<String> descriptions = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            TransactionPageResponse page = listingService.listTransactions(null, null, null, null, cursor, 2);
+            page.items().forEach(item -> descriptions.add(item.description()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of("B", "C", "D", "E", "A"), descriptions);
+    }
+
+    @Test
+    void shouldApplyDateAndAmountFilters() {
+        TransactionPageResponse page = listingService.listTransactions(
+                LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 2), new BigDecimal("10"), new BigDecimal("25.00"), null, 10);
+
+        assertEquals(List.of("C", "D"), page.items().stream().map(TransactionSummary::description).toList());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void shouldRejectInvalidCursorAndInvalidRanges() {
+        assertThrows(InvalidRequestException.class,
+                () -> listingService.listTransactions(null, null, null, null, "not-a-cursor", 10));
+        assertThrows(InvalidRequestException.class,
+                () -> listingService.listTransactions(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), null, null, null, 10));
+        assertThrows(InvalidRequestException.class,
+                () -> listingService.listTransactions(null, null, BigDecimal.TEN, BigDecimal.ONE, null, 10));
+        assertThrows(InvalidRequestException.class,
+                () -> listingService.listTransactions(null, null, null, new BigDecimal("1e30"), null, 10));
+    }
+
+    private static Transaction transaction(String description, String date, String amount) {
+        return new Transaction(description, LocalDate.parse(date), Money.toCents(new BigDecimal(amount)), null);
+    }
+}
@@ -0,0 +1,222 @@
+package com.wex.purchasetransaction.transaction.service.write;
+
+import com.wex.purchasetransaction.config.properties.TransactionWriteProperties;
+import com.wex.purchasetransaction.transaction.repository.Transaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionWriteBatcherTest {
+
+    private final List<List<String>> commits = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TransactionWriteBatcher batcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.stop();
+    }
+
+    @Test
+    void shouldCommitConcurrentWritesTogether() throws Exception {
+        batcher = start(true, 10, Duration.ofMillis(500), transactions -> { });
+
+        List<Transaction> written = writeConcurrently(5);
+
+        assertEquals(1, commits.size());
+        assertEquals(5, commits.get(0).size());
+        assertEquals(5, written.size());
+        assertEquals(1.0, meterRegistry.get("transaction.write.commits").tag("result", "success").counter().count());
+        assertEquals(5.0, meterRegistry.get("transaction.write.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void shouldNotExceedMaxBatchSize() throws Exception {
+        batcher = start(true, 3, Duration.ofMillis(200), transactions -> { });
+
+        writeConcurrently(7);
+
+        assertEquals(7, commits.stream().mapToInt(List::size).sum());
+        assertTrue(commits.stream().allMatch(batch -> batch.size() <= 3), commits.toString());
+    }
+
+    @Test
+    void shouldFailOnlyTheOffendingWriteWhenBatchFails() throws Exception {
+        batcher = start(true, 10, Duration.ofMillis(500), transactions -> {
+            if (transactions.stream().anyMatch(transaction -> transaction.getDescription().equals("bad"))) {
+                throw new IllegalArgumentException("constraint violated");
+            }
+        });
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(3)) {
+            Future<Transaction> good1 = callers.submit(() -> batcher.write(transaction("good-1")));
+            Future<Transaction> bad = callers.submit(() -> batcher.write(transaction("bad")));
+            Future<Transaction> good2 = callers.submit(() -> batcher.write(transaction("good-2")));
+
+            assertEquals("good-1", good1.get().getDescription());
+            assertEquals("good-2", good2.get().getDescription());
+            ExecutionException ex = assertThrows(ExecutionException.class, bad::get);
+            assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+        }
+
+        assertTrue(meterRegistry.get("transaction.write.commits").tag("result", "failure").counter().count() >= 2);
+    }
+
+    @Test
+    void shouldCommitOnCallerThreadWhenBatchingIsDisabled() {
+        Thread caller = Thread.currentThread();
+        List<Thread> committingThreads = new ArrayList<>();
+        batcher = start(false, 10, Duration.ofMillis(500), transactions -> committingThreads.add(Thread.currentThread()));
+
+        Transaction transaction = transaction("solo");
+
+        assertSame(transaction, batcher.write(transaction));
+        assertEquals(List.of(caller), committingThreads);
+        assertEquals(List.of(List.of("solo")), commits);
+    }
+
+    @Test
+    void shouldRejectWritesOnceStopped() throws InterruptedException {
+        batcher = start(true, 10, Duration.ofMillis(1), transactions -> { });
+        batcher.stop();
+
+        assertThrows(IllegalStateException.class, () -> batcher.write(transaction("late")));
+    }
+
+    @Test
+    void shouldFailFastWhenTheWriteIsNotClaimedInTime() throws Exception {
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = start(true, 1, Duration.ofMillis(1), Duration.ofMillis(200), transactions -> {
+            committing.countDown();
+            await(release);
+        });
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            Future<Transaction> stuck = callers.submit(() -> batcher.write(transaction("stuck")));
+            await(committing);
+            Future<Transaction> abandoned = callers.submit(() -> batcher.write(transaction("abandoned")));
+
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> abandoned.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+
+            release.countDown();
+            assertEquals("stuck", stuck.get(5, TimeUnit.SECONDS).getDescription());
+        } finally {
+            release.countDown();
+        }
+
+        assertEquals("after", batcher.write(transaction("after")).getDescription());
+        assertTrue(commits.stream().noneMatch(batch -> batch.contains("abandoned")), commits.toString());
+    }
+
+    @Test
+    void shouldReturnTheCommittedWriteWhenTheTimeoutFiresAfterItWasClaimed() throws Exception {
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = start(true, 1, Duration.ofMillis(1), Duration.ofMillis(100), transactions -> {
+            committing.countDown();
+            await(release);
+        });
+
+        try (ExecutorService callers = Executors.newSingleThreadExecutor()) {
+            Future<Transaction> claimed = callers.submit(() -> batcher.write(transaction("claimed")));
+            await(committing);
+            Thread.sleep(300);
+            release.countDown();
+
+            assertEquals("claimed", claimed.get(5, TimeUnit.SECONDS).getDescription());
+        } finally {
+            release.countDown();
+        }
+
+        assertEquals(List.of(List.of("claimed")), commits);
+    }
+
+    @Test
+    void shouldRestartTheWriterAfterAnError() {
+        AtomicBoolean failed = new AtomicBoolean();
+        batcher = start(true, 10, Duration.ofMillis(1), transactions -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new AssertionError("writer crashed");
+            }
+        });
+
+        assertThrows(IllegalStateException.class, () -> batcher.write(transaction("lost")));
+        assertEquals("next", batcher.write(transaction("next")).getDescription());
+        assertEquals(List.of(List.of("next")), commits);
+    }
+
+    private TransactionWriteBatcher start(
+            boolean enabled, int maxBatchSize, Duration linger, TransactionWriteBatcher.BatchCommitter committer) {
+        return start(enabled, maxBatchSize, linger, Duration.ofSeconds(10), committer);
+    }
+
+    private TransactionWriteBatcher start(
+            boolean enabled,
+            int maxBatchSize,
+            Duration linger,
+            Duration commitTimeout,
+            TransactionWriteBatcher.BatchCommitter committer) {
+        TransactionWriteProperties properties = new TransactionWriteProperties();
+        properties.setBatchingEnabled(enabled);
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setLinger(linger);
+        properties.setCommitTimeout(commitTimeout);
+
+        TransactionWriteBatcher started = new TransactionWriteBatcher(properties, transactions -> {
+            committer.commit(transactions);
+            commits.add(transactions.stream().map(Transaction::getDescription).toList());
+        }, meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private List<Transaction> writeConcurrently(int writes) throws Exception {
+        List<Future<Transaction>> futures = new ArrayList<>();
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(writes)) {
+            for (int i = 0; i < writes; i++) {
+                Transaction transaction = transaction("tx-" + i);
+                futures.add(callers.submit(() -> batcher.write(transaction)));
+            }
+
+            List<Transaction> written = new ArrayList<>();
+            for (Future<Transaction> future : futures) {
+                written.add(future.get());
+            }
+            return written;
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Transaction transaction(String description) {
+        return new Transaction(description, LocalDate.of(2024, 1, 10), 1_000L, null);
+    }
+}
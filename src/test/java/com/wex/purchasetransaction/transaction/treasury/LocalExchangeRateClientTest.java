@@ -0,0 +1,79 @@
+package com.wex.purchasetransaction.transaction.treasury;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryUnavailableException;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.treasury.index.ExchangeRateIndex;
+import com.wex.purchasetransaction.transaction.treasury.sync.ExchangeRateSyncJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class LocalExchangeRateClientTest {
+
+    @Mock
+    private ExchangeRateIndex exchangeRateIndex;
+
+    @Mock
+    private ExchangeRateSyncJob syncJob;
+
+    @Mock
+    private ObjectProvider<ExchangeRateSyncJob> syncJobProvider;
+
+    private LocalExchangeRateClient exchangeRateClient;
+
+    @BeforeEach
+    void setUp() {
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.setMaxMonthsLookback(6);
+
+        when(syncJobProvider.getIfAvailable()).thenReturn(syncJob);
+
+        exchangeRateClient = new LocalExchangeRateClient(exchangeRateIndex, properties, syncJobProvider);
+    }
+
+    @Test
+    void shouldReturnRateFromIndex() {
+        when(exchangeRateIndex.rateOn("Euro", LocalDate.of(2024, 1, 15)))
+                .thenReturn(ConversionRate.of(new BigDecimal("0.905")));
+
+        BigDecimal result = exchangeRateClient.getExchangeRate("Euro", LocalDate.of(2024, 1, 15)).value();
+
+        assertEquals(0, result.compareTo(new BigDecimal("0.905")));
+    }
+
+    @Test
+    void shouldThrowWhenIndexHasNoRateForDate() {
+        when(exchangeRateIndex.rateOn("Euro", LocalDate.of(2024, 1, 15))).thenReturn(null);
+        when(syncJob.hasCompleted()).thenReturn(true);
+
+        NoSuchElementException ex = assertThrows(
+                NoSuchElementException.class,
+                () -> exchangeRateClient.getExchangeRate("Euro", LocalDate.of(2024, 1, 15))
+        );
+
+        assertTrue(ex.getMessage().contains("No exchange rate available"));
+        assertTrue(ex.getMessage().contains("2023-07-15"));
+    }
+
+    @Test
+    void shouldReportUnavailableWhileInitialSyncIsIncomplete() {
+        when(exchangeRateIndex.rateOn("Euro", LocalDate.of(2024, 1, 15))).thenReturn(null);
+        when(syncJob.hasCompleted()).thenReturn(false);
+
+        assertThrows(
+                TreasuryUnavailableException.class,
+                () -> exchangeRateClient.getExchangeRate("Euro", LocalDate.of(2024, 1, 15))
+        );
+    }
+}
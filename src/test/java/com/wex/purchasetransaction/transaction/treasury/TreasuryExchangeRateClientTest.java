@@ -2,8 +2,11 @@ package com.wex.purchasetransaction.transaction.treasury;
 
 import com.wex.purchasetransaction.config.properties.TreasuryProperties;
 import com.wex.purchasetransaction.transaction.client.TreasuryRestClient;
+import com.wex.purchasetransaction.transaction.client.resilience.TreasuryUnavailableException;
+import com.wex.purchasetransaction.transaction.treasury.cache.TreasuryRateCache;
 import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
 import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -17,6 +20,7 @@ import java.util.NoSuchElementException;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,7 +37,11 @@ class TreasuryExchangeRateClientTest {
         TreasuryProperties properties = new TreasuryProperties();
         properties.setMaxMonthsLookback(6);
 
-        exchangeRateClient = new TreasuryExchangeRateClient(restClient, properties);
+        exchangeRateClient = new TreasuryExchangeRateClient(
+                restClient,
+                properties,
+                new TreasuryRateCache(properties, new SimpleMeterRegistry())
+        );
     }
 
     @Test
@@ -50,7 +58,7 @@ class TreasuryExchangeRateClientTest {
 
         when(restClient.fetchRates(anyString())).thenReturn(response);
 
-        BigDecimal result = exchangeRateClient.getExchangeRate("Euro", purchaseDate);
+        BigDecimal result = exchangeRateClient.getExchangeRate("Euro", purchaseDate).value();
 
         assertEquals(0, result.compareTo(new BigDecimal("0.90"))
         );
@@ -60,6 +68,23 @@ class TreasuryExchangeRateClientTest {
         );
     }
 
+    @Test
+    void shouldServeLaterDatesInSamePublicationPeriodFromCache() {
+        TreasuryRate rate = new TreasuryRate(
+                LocalDate.of(2024, 1, 10),
+                "Euro Zone-Euro",
+                new BigDecimal("0.90")
+        );
+
+        when(restClient.fetchRates(anyString())).thenReturn(new TreasuryResponse(List.of(rate)));
+
+        exchangeRateClient.getExchangeRate("Euro", LocalDate.of(2024, 1, 20));
+        BigDecimal result = exchangeRateClient.getExchangeRate("Euro", LocalDate.of(2024, 1, 12)).value();
+
+        assertEquals(0, result.compareTo(new BigDecimal("0.90")));
+        verify(restClient, times(1)).fetchRates(anyString());
+    }
+
     @Test
     void shouldThrowWhenResponseIsNull() {
         when(restClient.fetchRates(anyString())).thenReturn(null);
@@ -89,4 +114,33 @@ class TreasuryExchangeRateClientTest {
 
         assertTrue(ex.getMessage().contains("No exchange rate available"));
     }
+
+    @Test
+    void shouldServeLatestCachedRateWhenTreasuryIsUnavailable() {
+        TreasuryRate rate = new TreasuryRate(
+                LocalDate.of(2024, 1, 10),
+                "Euro Zone-Euro",
+                new BigDecimal("0.90")
+        );
+
+        when(restClient.fetchRates(anyString()))
+                .thenReturn(new TreasuryResponse(List.of(rate)))
+                .thenThrow(new TreasuryUnavailableException("Treasury API is temporarily unavailable (circuit open)"));
+
+        exchangeRateClient.getExchangeRate("Euro", LocalDate.of(2024, 1, 15));
+        BigDecimal result = exchangeRateClient.getExchangeRate("Euro", LocalDate.of(2024, 2, 20)).value();
+
+        assertEquals(0, result.compareTo(new BigDecimal("0.90")));
+    }
+
+    @Test
+    void shouldPropagateUnavailabilityWithoutCachedRate() {
+        when(restClient.fetchRates(anyString()))
+                .thenThrow(new TreasuryUnavailableException("Treasury API is temporarily unavailable (circuit open)"));
+
+        assertThrows(
+                TreasuryUnavailableException.class,
+                () -> exchangeRateClient.getExchangeRate("Euro", LocalDate.of(2024, 2, 20))
+        );
+    }
 }
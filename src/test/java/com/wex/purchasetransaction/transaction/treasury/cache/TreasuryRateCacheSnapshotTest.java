@@ -0,0 +1,93 @@
+package com.wex.purchasetransaction.transaction.treasury.cache;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreasuryRateCacheSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private TreasuryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TreasuryProperties();
+        properties.setMaxMonthsLookback(6);
+        properties.getCache().getSnapshot().setPath(directory.resolve("rates").resolve("treasury-rates.snapshot"));
+    }
+
+    @Test
+    void shouldRestoreRangesWrittenByPreviousInstance() throws IOException {
+        TreasuryRateCache before = newCache();
+        before.put("Euro", new RateRange(LocalDate.of(2023, 12, 31), LocalDate.of(2024, 3, 30), new BigDecimal("0.905")));
+        before.put("Euro", new RateRange(LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30), new BigDecimal("0.925")));
+        before.put("Yen", new RateRange(LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30), new BigDecimal("151.2")));
+
+        assertEquals(2, new TreasuryRateCacheSnapshot(before, properties).save());
+
+        TreasuryRateCache after = newCache();
+        assertEquals(2, new TreasuryRateCacheSnapshot(after, properties).load());
+
+        assertEquals(new BigDecimal("0.905"), after.lookup("Euro", LocalDate.of(2024, 2, 1)).value());
+        assertEquals(new BigDecimal("0.925"), after.lookup("Euro", LocalDate.of(2024, 4, 30)).value());
+        assertEquals(new BigDecimal("151.2"), after.lookup("Yen", LocalDate.of(2024, 4, 1)).value());
+        assertNull(after.lookup("Yen", LocalDate.of(2024, 5, 1)));
+    }
+
+    @Test
+    void shouldRestoreRatesWithLargeScaleAndPrecision() throws IOException {
+        BigDecimal precise = new BigDecimal(new BigInteger("7".repeat(400)), 200);
+
+        TreasuryRateCache before = newCache();
+        before.put("Euro", new RateRange(LocalDate.of(2023, 12, 31), LocalDate.of(2024, 3, 30), precise));
+        new TreasuryRateCacheSnapshot(before, properties).save();
+
+        TreasuryRateCache after = newCache();
+        assertEquals(1, new TreasuryRateCacheSnapshot(after, properties).load());
+
+        assertEquals(precise, after.lookup("Euro", LocalDate.of(2024, 2, 1)).value());
+    }
+
+    @Test
+    void shouldStartColdWhenSnapshotIsMissing() throws IOException {
+        TreasuryRateCache cache = newCache();
+
+        assertEquals(0, new TreasuryRateCacheSnapshot(cache, properties).load());
+        assertTrue(cache.entries().isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreTruncatedSnapshot() throws IOException {
+        TreasuryRateCache before = newCache();
+        before.put("Euro", new RateRange(LocalDate.of(2023, 12, 31), LocalDate.of(2024, 3, 30), new BigDecimal("0.905")));
+        new TreasuryRateCacheSnapshot(before, properties).save();
+
+        Path file = properties.getCache().getSnapshot().getPath();
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        TreasuryRateCache after = newCache();
+        TreasuryRateCacheSnapshot snapshot = new TreasuryRateCacheSnapshot(after, properties);
+
+        assertThrows(IOException.class, snapshot::load);
+        assertTrue(after.entries().isEmpty());
+    }
+
+    private TreasuryRateCache newCache() {
+        return new TreasuryRateCache(properties, new SimpleMeterRegistry());
+    }
+}
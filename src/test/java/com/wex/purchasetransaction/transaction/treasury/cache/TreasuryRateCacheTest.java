@@ -0,0 +1,337 @@
+package com.wex.purchasetransaction.transaction.treasury.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.money.ConversionRate;
+import com.wex.purchasetransaction.transaction.client.TreasuryRestClient;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TreasuryRateCacheTest {
+
+    private static final TreasuryRate EURO_Q4 = new TreasuryRate(
+            LocalDate.of(2023, 12, 31), "Euro Zone-Euro", "Euro", new BigDecimal("0.905")
+    );
+
+    private TreasuryRateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.setMaxMonthsLookback(6);
+
+        cache = new TreasuryRateCache(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldResolveAnyDateWithinLoadedRangeFromMemory() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("Euro", LocalDate.of(2024, 2, 15), () -> {
+            loads.incrementAndGet();
+            return EURO_Q4;
+        });
+
+        ConversionRate start = cache.get("Euro", LocalDate.of(2023, 12, 31), () -> fail("should be cached"));
+        ConversionRate middle = cache.get("Euro", LocalDate.of(2024, 1, 20), () -> fail("should be cached"));
+
+        assertEquals(1, loads.get());
+        assertEquals(0, start.value().compareTo(new BigDecimal("0.905")));
+        assertEquals(0, middle.value().compareTo(new BigDecimal("0.905")));
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void shouldExtendRangeWhenLaterDateResolvesToSamePublication() {
+        cache.get("Euro", LocalDate.of(2024, 1, 15), () -> EURO_Q4);
+        cache.get("Euro", LocalDate.of(2024, 3, 15), () -> EURO_Q4);
+
+        assertNotNull(cache.lookup("Euro", LocalDate.of(2024, 2, 20)));
+        assertNull(cache.lookup("Euro", LocalDate.of(2024, 3, 16)));
+        assertNull(cache.lookup("Yen", LocalDate.of(2024, 2, 20)));
+    }
+
+    @Test
+    void shouldMissWhenCachedPublicationFallsOutsideLookbackWindow() {
+        cache.put("Euro", new RateRange(LocalDate.of(2023, 1, 31), LocalDate.of(2023, 12, 31), new BigDecimal("0.92")));
+
+        assertNotNull(cache.lookup("Euro", LocalDate.of(2023, 7, 31)));
+        assertNull(cache.lookup("Euro", LocalDate.of(2023, 8, 1)));
+    }
+
+    @Test
+    void shouldKeepRangesOrderedByRecordDate() {
+        cache.put("Euro", new RateRange(LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30), new BigDecimal("0.925")));
+        cache.put("Euro", new RateRange(LocalDate.of(2023, 12, 31), LocalDate.of(2024, 3, 30), new BigDecimal("0.905")));
+
+        assertEquals(0, cache.lookup("Euro", LocalDate.of(2024, 2, 1)).value().compareTo(new BigDecimal("0.905")));
+        assertEquals(0, cache.lookup("Euro", LocalDate.of(2024, 4, 1)).value().compareTo(new BigDecimal("0.925")));
+    }
+
+    @Test
+    void shouldDeriveRangesFromBulkPublications() {
+        cache.putPublications("Euro", List.of(
+                new TreasuryRate(LocalDate.of(2023, 12, 31), "Euro Zone-Euro", "Euro", new BigDecimal("0.905")),
+                new TreasuryRate(LocalDate.of(2023, 9, 30), "Euro Zone-Euro", "Euro", new BigDecimal("0.945"))
+        ), LocalDate.of(2024, 2, 1));
+
+        assertEquals(0, cache.lookup("Euro", LocalDate.of(2023, 12, 30)).value().compareTo(new BigDecimal("0.945")));
+        assertEquals(0, cache.lookup("Euro", LocalDate.of(2024, 2, 1)).value().compareTo(new BigDecimal("0.905")));
+        assertNull(cache.lookup("Euro", LocalDate.of(2024, 2, 2)));
+        assertNull(cache.lookup("Euro", LocalDate.of(2023, 9, 29)));
+    }
+
+    @Test
+    void shouldShareSingleLoadBetweenConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Future<ConversionRate> first = executor.submit(() -> cache.get("Euro", LocalDate.of(2024, 1, 15), () -> {
+                loads.incrementAndGet();
+                await(release);
+                return EURO_Q4;
+            }));
+            Thread.sleep(50);
+            Future<ConversionRate> second = executor.submit(() -> cache.get("Euro", LocalDate.of(2024, 1, 15), () -> {
+                loads.incrementAndGet();
+                return EURO_Q4;
+            }));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheFailedLoads() {
+        assertThrows(NoSuchElementException.class, () -> cache.get("Euro", LocalDate.of(2024, 1, 15), () -> {
+            throw new NoSuchElementException("No exchange rate available");
+        }));
+
+        assertNull(cache.lookup("Euro", LocalDate.of(2024, 1, 15)));
+    }
+
+    @Test
+    void shouldRememberUnavailableRateWithoutCallingLoaderAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        LocalDate purchaseDate = LocalDate.of(2024, 2, 15);
+
+        for (int i = 0; i < 3; i++) {
+            NoSuchElementException ex = assertThrows(NoSuchElementException.class, () ->
+                    cache.get("Unknown", purchaseDate, () -> {
+                        loads.incrementAndGet();
+                        throw new NoSuchElementException("No exchange rate available for currency 'Unknown'");
+                    })
+            );
+            assertEquals("No exchange rate available for currency 'Unknown'", ex.getMessage());
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.missCount());
+        assertEquals(2, cache.negativeHitCount());
+    }
+
+    @Test
+    void shouldNotRememberTransientFailures() {
+        AtomicInteger loads = new AtomicInteger();
+        LocalDate purchaseDate = LocalDate.of(2024, 2, 15);
+
+        assertThrows(IllegalStateException.class, () ->
+                cache.get("Euro", purchaseDate, () -> {
+                    loads.incrementAndGet();
+                    throw new IllegalStateException("Treasury unavailable");
+                })
+        );
+
+        ConversionRate rate = cache.get("Euro", purchaseDate, () -> {
+            loads.incrementAndGet();
+            return EURO_Q4;
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, rate.value().compareTo(new BigDecimal("0.905")));
+        assertEquals(0, cache.negativeHitCount());
+    }
+
+    @Test
+    void shouldTimeLoadsByResult() {
+        FakeTicker ticker = new FakeTicker();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.setMaxMonthsLookback(6);
+        TreasuryRateCache timed = new TreasuryRateCache(properties, meterRegistry, null, ticker, Runnable::run);
+
+        timed.get("Euro", LocalDate.of(2024, 2, 15), () -> {
+            ticker.advance(Duration.ofMillis(120));
+            return EURO_Q4;
+        });
+        assertThrows(NoSuchElementException.class, () -> timed.get("Unknown", LocalDate.of(2024, 2, 15), () -> {
+            ticker.advance(Duration.ofMillis(80));
+            throw new NoSuchElementException("No exchange rate available");
+        }));
+
+        Timer loads = meterRegistry.get("treasury.rates.cache.loads").tag("result", "success").timer();
+        Timer unavailable = meterRegistry.get("treasury.rates.cache.loads").tag("result", "unavailable").timer();
+
+        assertEquals(1, loads.count());
+        assertEquals(120.0, loads.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(80.0, unavailable.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(0, meterRegistry.get("treasury.rates.cache.loads").tag("result", "failure").timer().count());
+    }
+
+    @Test
+    void shouldServeStaleRatesWhileRefreshingLatestPublication() {
+        FakeTicker ticker = new FakeTicker();
+        TreasuryRestClient restClient = mock(TreasuryRestClient.class);
+        List<Runnable> refreshTasks = new ArrayList<>();
+        TreasuryRateCache refreshing = refreshingCache(restClient, ticker, refreshTasks::add);
+
+        LocalDate today = LocalDate.now();
+        LocalDate previous = today.minusDays(40);
+        LocalDate published = today.minusDays(5);
+
+        refreshing.put("Euro", new RateRange(previous, today.minusDays(1), new BigDecimal("0.90")));
+        when(restClient.fetchRates(Set.of("Euro"), previous, today)).thenReturn(List.of(
+                new TreasuryRate(previous, "Euro Zone-Euro", "Euro", new BigDecimal("0.90")),
+                new TreasuryRate(published, "Euro Zone-Euro", "Euro", new BigDecimal("0.95"))
+        ));
+
+        ticker.advance(Duration.ofMinutes(31));
+
+        assertEquals(0, refreshing.lookup("Euro", today.minusDays(1)).value().compareTo(new BigDecimal("0.90")));
+        verifyNoInteractions(restClient);
+
+        List.copyOf(refreshTasks).forEach(Runnable::run);
+
+        assertEquals(0, refreshing.lookup("Euro", today.minusDays(1)).value().compareTo(new BigDecimal("0.95")));
+        assertEquals(0, refreshing.lookup("Euro", today).value().compareTo(new BigDecimal("0.95")));
+        assertEquals(0, refreshing.lookup("Euro", published.minusDays(1)).value().compareTo(new BigDecimal("0.90")));
+        assertEquals(Duration.ZERO, refreshing.oldestEntryAge());
+    }
+
+    @Test
+    void shouldKeepServingStaleRatesWhenRefreshFails() {
+        FakeTicker ticker = new FakeTicker();
+        TreasuryRestClient restClient = mock(TreasuryRestClient.class);
+        TreasuryRateCache refreshing = refreshingCache(restClient, ticker, Runnable::run);
+
+        LocalDate today = LocalDate.now();
+        refreshing.put("Euro", new RateRange(today.minusDays(40), today, new BigDecimal("0.90")));
+        when(restClient.fetchRates(any(), any(), any())).thenThrow(new IllegalStateException("Treasury unavailable"));
+
+        ticker.advance(Duration.ofHours(2));
+
+        assertEquals(0, refreshing.lookup("Euro", today).value().compareTo(new BigDecimal("0.90")));
+        assertEquals(0, refreshing.lookup("Euro", today).value().compareTo(new BigDecimal("0.90")));
+        assertEquals(Duration.ofHours(2), refreshing.oldestEntryAge());
+
+        ticker.advance(Duration.ofHours(23));
+
+        assertNull(refreshing.lookup("Euro", today));
+    }
+
+    @Test
+    void shouldExpireFromTheFirstLoadEvenWhenMoreRangesAreStored() {
+        FakeTicker ticker = new FakeTicker();
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.setMaxMonthsLookback(6);
+        properties.getCache().setExpireAfterWrite(Duration.ofMinutes(60));
+        TreasuryRateCache expiring = new TreasuryRateCache(properties, new SimpleMeterRegistry(), null, ticker, Runnable::run);
+
+        LocalDate today = LocalDate.now();
+        expiring.put("Euro", new RateRange(today.minusDays(40), today.minusDays(10), new BigDecimal("0.90")));
+        ticker.advance(Duration.ofMinutes(50));
+        expiring.put("Euro", new RateRange(today.minusDays(9), today, new BigDecimal("0.95")));
+
+        assertEquals(Duration.ofMinutes(50), expiring.oldestEntryAge());
+
+        ticker.advance(Duration.ofMinutes(11));
+
+        assertNull(expiring.lookup("Euro", today));
+    }
+
+    @Test
+    void shouldRefreshFromTheFirstLoadEvenWhenMoreRangesAreStored() {
+        FakeTicker ticker = new FakeTicker();
+        TreasuryRestClient restClient = mock(TreasuryRestClient.class);
+        List<Runnable> refreshTasks = new ArrayList<>();
+        TreasuryRateCache refreshing = refreshingCache(restClient, ticker, refreshTasks::add);
+
+        LocalDate today = LocalDate.now();
+        refreshing.put("Euro", new RateRange(today.minusDays(40), today.minusDays(10), new BigDecimal("0.90")));
+        ticker.advance(Duration.ofMinutes(20));
+        refreshing.put("Euro", new RateRange(today.minusDays(9), today.minusDays(1), new BigDecimal("0.95")));
+        when(restClient.fetchRates(any(), any(), any())).thenReturn(List.of());
+
+        ticker.advance(Duration.ofMinutes(11));
+        refreshing.lookup("Euro", today.minusDays(1));
+
+        List.copyOf(refreshTasks).forEach(Runnable::run);
+
+        verify(restClient).fetchRates(Set.of("Euro"), today.minusDays(9), today);
+        assertEquals(0, refreshing.lookup("Euro", today.minusDays(1)).value().compareTo(new BigDecimal("0.95")));
+        assertEquals(Duration.ZERO, refreshing.oldestEntryAge());
+    }
+
+    private static TreasuryRateCache refreshingCache(TreasuryRestClient restClient, FakeTicker ticker, Executor executor) {
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.setMaxMonthsLookback(6);
+        properties.getCache().getRefresh().setEnabled(true);
+        properties.getCache().getRefresh().setAfterWrite(Duration.ofMinutes(30));
+        properties.getCache().getRefresh().setMaxStale(Duration.ofHours(24));
+
+        return new TreasuryRateCache(properties, new SimpleMeterRegistry(), restClient, ticker, executor);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(Duration duration) {
+            nanos += duration.toNanos();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.wex.purchasetransaction.transaction.treasury.index;
+
+import com.wex.purchasetransaction.transaction.treasury.index.CurrencyRateIndex.Publication;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrencyRateIndexTest {
+
+    private static final BigDecimal Q3 = new BigDecimal("0.945");
+    private static final BigDecimal Q4 = new BigDecimal("0.905");
+
+    private final CurrencyRateIndex index = CurrencyRateIndex.build(List.of(
+            new Publication(LocalDate.of(2023, 9, 30), Q3),
+            new Publication(LocalDate.of(2023, 9, 30), new BigDecimal("9.99")),
+            new Publication(LocalDate.of(2023, 12, 31), Q4)
+    ), 6);
+
+    @Test
+    void shouldResolveLatestPublicationOnOrBeforeDate() {
+        assertSame(Q3, index.rateOn(LocalDate.of(2023, 9, 30)).value());
+        assertSame(Q3, index.rateOn(LocalDate.of(2023, 12, 30)).value());
+        assertSame(Q4, index.rateOn(LocalDate.of(2023, 12, 31)).value());
+        assertSame(Q4, index.rateOn(LocalDate.of(2024, 5, 1)).value());
+        assertEquals(2, index.publicationCount());
+    }
+
+    @Test
+    void shouldApplyLookbackWindowAfterLastPublication() {
+        assertSame(Q4, index.rateOn(LocalDate.of(2024, 6, 30)).value());
+        assertNull(index.rateOn(LocalDate.of(2024, 7, 1)));
+        assertNull(index.rateOn(LocalDate.of(2030, 1, 1)));
+    }
+
+    @Test
+    void shouldReturnNullBeforeFirstPublication() {
+        assertNull(index.rateOn(LocalDate.of(2023, 9, 29)));
+        assertNull(index.rateOn(LocalDate.of(1990, 1, 1)));
+    }
+
+    @Test
+    void shouldMatchLookbackRuleAcrossGapsBetweenPublications() {
+        CurrencyRateIndex sparse = CurrencyRateIndex.build(List.of(
+                new Publication(LocalDate.of(2022, 3, 31), Q3),
+                new Publication(LocalDate.of(2023, 3, 31), Q4)
+        ), 6);
+
+        assertSame(Q3, sparse.rateOn(LocalDate.of(2022, 9, 30)).value());
+        assertNull(sparse.rateOn(LocalDate.of(2022, 10, 1)));
+        assertNull(sparse.rateOn(LocalDate.of(2023, 3, 30)));
+        assertSame(Q4, sparse.rateOn(LocalDate.of(2023, 3, 31)).value());
+    }
+
+    @Test
+    void shouldHandleEmptyPublications() {
+        CurrencyRateIndex empty = CurrencyRateIndex.build(List.of(), 6);
+
+        assertNull(empty.rateOn(LocalDate.of(2024, 1, 1)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.wex.purchasetransaction.transaction.treasury.sync;
+
+import com.wex.purchasetransaction.config.properties.TreasuryProperties;
+import com.wex.purchasetransaction.transaction.client.TreasuryRestClient;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryMeta;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryRate;
+import com.wex.purchasetransaction.transaction.treasury.dto.TreasuryResponse;
+import com.wex.purchasetransaction.transaction.treasury.repository.ExchangeRateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings
+class ExchangeRateSyncJobTest {
+
+    @Mock
+    private TreasuryRestClient restClient;
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ExchangeRateSyncJob syncJob;
+
+    @BeforeEach
+    void setUp() {
+        TreasuryProperties properties = new TreasuryProperties();
+        properties.getSync().setPageSize(2);
+
+        syncJob = new ExchangeRateSyncJob(
+                restClient, exchangeRateRepository, transactionTemplate, properties, eventPublisher);
+    }
+
+    @Test
+    void shouldResumeFromLatestRecordDateAndFollowPagination() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        when(exchangeRateRepository.findLatestRecordDate())
+                .thenReturn(Optional.of(LocalDate.of(2024, 3, 31)));
+
+        TreasuryRate euro = new TreasuryRate(LocalDate.of(2024, 3, 31), "Euro Zone-Euro", "Euro", new BigDecimal("0.925"));
+        TreasuryRate yen = new TreasuryRate(LocalDate.of(2024, 3, 31), "Japan-Yen", "Yen", new BigDecimal("151.2"));
+        TreasuryRate real = new TreasuryRate(LocalDate.of(2024, 6, 30), "Brazil-Real", "Real", new BigDecimal("5.58"));
+
+        when(restClient.fetchRatesPage("record_date:gte:2024-03-31", 1, 2))
+                .thenReturn(new TreasuryResponse(List.of(euro, yen), new TreasuryMeta(3, 2)));
+        when(restClient.fetchRatesPage("record_date:gte:2024-03-31", 2, 2))
+                .thenReturn(new TreasuryResponse(List.of(real), new TreasuryMeta(3, 2)));
+
+        int synced = syncJob.sync();
+
+        assertEquals(3, synced);
+        verify(exchangeRateRepository).upsert("Euro Zone-Euro", LocalDate.of(2024, 3, 31), "Euro", new BigDecimal("0.925"));
+        verify(exchangeRateRepository).upsert("Japan-Yen", LocalDate.of(2024, 3, 31), "Yen", new BigDecimal("151.2"));
+        verify(exchangeRateRepository).upsert("Brazil-Real", LocalDate.of(2024, 6, 30), "Real", new BigDecimal("5.58"));
+        verify(restClient, times(2)).fetchRatesPage(any(), anyInt(), anyInt());
+        verify(eventPublisher).publishEvent(new ExchangeRatesSyncedEvent(Set.of("Euro", "Yen", "Real")));
+    }
+
+    @Test
+    void shouldSyncFullDatasetWhenStoreIsEmpty() {
+        when(exchangeRateRepository.findLatestRecordDate()).thenReturn(Optional.empty());
+        when(restClient.fetchRatesPage(isNull(), eq(1), eq(2)))
+                .thenReturn(new TreasuryResponse(List.of()));
+
+        int synced = syncJob.sync();
+
+        assertEquals(0, synced);
+        verify(exchangeRateRepository, never()).upsert(any(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}